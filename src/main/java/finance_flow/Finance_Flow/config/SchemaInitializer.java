@@ -0,0 +1,80 @@
+package finance_flow.Finance_Flow.config;
+
+import finance_flow.Finance_Flow.service.BalanceLedgerService;
+import finance_flow.Finance_Flow.service.TransactionRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * While the schema is managed by Hibernate instead of Flyway, applies the
+ * parts of {@code db/migration} that entity mappings cannot express. Schema
+ * scripts are idempotent and run on every start; data backfills run once per
+ * database and are recorded in {@code schema_backfills}. Runs after the
+ * entity manager has updated the tables and before the web server accepts
+ * requests, and any failure aborts startup.
+ */
+@Component
+@ConditionalOnMissingClass("org.flywaydb.core.Flyway")
+@ConditionalOnProperty(name = "app.schema.initialize", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaInitializer implements SmartInitializingSingleton {
+
+    private static final List<String> SCHEMA_SCRIPTS = List.of(
+            "db/migration/V10__Add_transaction_keyset_index.sql",
+            "db/migration/V11__Add_transaction_search_indexes.sql",
+            "db/migration/V12__Add_transaction_description_search.sql"
+    );
+
+    private static final String CREATE_BACKFILLS =
+            "CREATE TABLE IF NOT EXISTS schema_backfills (" +
+            "name VARCHAR(100) PRIMARY KEY, " +
+            "applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+
+    private static final String CLAIM_BACKFILL =
+            "INSERT INTO schema_backfills (name) VALUES (?) ON CONFLICT (name) DO NOTHING";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionRollupService rollupService;
+    private final BalanceLedgerService balanceLedgerService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SCHEMA_SCRIPTS.forEach(this::apply);
+
+        jdbcTemplate.execute(CREATE_BACKFILLS);
+        backfill("V5__transaction_monthly_rollup", rollupService::rebuildAll);
+        backfill("V6__account_balances", balanceLedgerService::rebuildAll);
+    }
+
+    private void apply(String script) {
+        new ResourceDatabasePopulator(new ClassPathResource(script)).execute(dataSource);
+        log.info("Applied {}", script);
+    }
+
+    /**
+     * Claims the backfill and runs it in one transaction, so a failed run is
+     * retried on the next start and concurrent instances run it only once.
+     */
+    private void backfill(String name, Runnable task) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcTemplate.update(CLAIM_BACKFILL, name) == 1) {
+                log.info("Running one-time backfill {}", name);
+                task.run();
+            }
+        });
+    }
+}
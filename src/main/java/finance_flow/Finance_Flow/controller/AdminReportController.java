@@ -0,0 +1,49 @@
+package finance_flow.Finance_Flow.controller;
+
+import finance_flow.Finance_Flow.dto.response.AdminReportResponse;
+import finance_flow.Finance_Flow.dto.response.ApiResponse;
+import finance_flow.Finance_Flow.service.AdminReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/v1/admin/reports")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminReportController {
+
+    private static final int DEFAULT_REPORT_MONTHS = 12;
+
+    private final AdminReportService adminReportService;
+
+    @GetMapping("/monthly")
+    public ResponseEntity<ApiResponse<AdminReportResponse>> getMonthlyReport(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startMonth,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endMonth
+    ) {
+        if (startMonth == null || endMonth == null) {
+            YearMonth currentMonth = YearMonth.now();
+            startMonth = currentMonth.minusMonths(DEFAULT_REPORT_MONTHS - 1).atDay(1);
+            endMonth = currentMonth.atDay(1);
+        }
+
+        AdminReportResponse report = adminReportService.getMonthlyReport(startMonth, endMonth);
+
+        return ResponseEntity.ok(ApiResponse.<AdminReportResponse>builder()
+                .success(true)
+                .message("Monthly report retrieved successfully")
+                .data(report)
+                .build());
+    }
+}
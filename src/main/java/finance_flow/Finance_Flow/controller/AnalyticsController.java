@@ -2,7 +2,9 @@ package finance_flow.Finance_Flow.controller;
 
 import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
 import finance_flow.Finance_Flow.dto.response.ApiResponse;
-import finance_flow.Finance_Flow.service.impl.AnalyticsServiceImpl;
+import finance_flow.Finance_Flow.model.enums.AnalyticsSection;
+import finance_flow.Finance_Flow.model.enums.PeriodGranularity;
+import finance_flow.Finance_Flow.service.AnalyticsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/analytics")
@@ -22,14 +25,17 @@ import java.util.List;
 @PreAuthorize("hasRole('USER')")
 public class AnalyticsController {
 
-    private final AnalyticsServiceImpl analyticsService;
+    private static final int DEFAULT_TIME_SERIES_BUCKETS = 30;
+
+    private final AnalyticsService analyticsService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<AnalyticsResponse>> getAnalytics(
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Set<AnalyticsSection> sections) {
 
         if (startDate == null || endDate == null) {
             YearMonth currentMonth = YearMonth.now();
@@ -37,7 +43,9 @@ public class AnalyticsController {
             endDate = currentMonth.atEndOfMonth();
         }
 
-        AnalyticsResponse analytics = analyticsService.getAnalytics(startDate, endDate);
+        AnalyticsResponse analytics = sections == null || sections.isEmpty()
+                ? analyticsService.getAnalytics(startDate, endDate)
+                : analyticsService.getAnalytics(startDate, endDate, sections);
 
         return ResponseEntity.ok(ApiResponse.<AnalyticsResponse>builder()
                 .success(true)
@@ -59,12 +67,12 @@ public class AnalyticsController {
             endDate = currentMonth.atEndOfMonth();
         }
 
-        AnalyticsResponse analytics = analyticsService.getAnalytics(startDate, endDate);
+        AnalyticsResponse.FinancialSummary summary = analyticsService.buildFinancialSummary(startDate, endDate);
 
         return ResponseEntity.ok(ApiResponse.<AnalyticsResponse.FinancialSummary>builder()
                 .success(true)
                 .message("Financial summary retrieved successfully")
-                .data(analytics.summary())
+                .data(summary)
                 .build());
     }
 
@@ -72,15 +80,101 @@ public class AnalyticsController {
     public ResponseEntity<ApiResponse<List<AnalyticsResponse.MonthlyTrend>>> getMonthlyTrends(
             @RequestParam(defaultValue = "6") int months
     ) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusMonths(months);
+        YearMonth currentMonth = YearMonth.now();
+        LocalDate startDate = currentMonth.minusMonths(months).atDay(1);
+        LocalDate endDate = currentMonth.atEndOfMonth();
 
-        AnalyticsResponse analytics = analyticsService.getAnalytics(startDate, endDate);
+        List<AnalyticsResponse.MonthlyTrend> trends = analyticsService.buildMonthlyTrends(startDate, endDate);
 
         return ResponseEntity.ok(ApiResponse.<List<AnalyticsResponse.MonthlyTrend>>builder()
                 .success(true)
                 .message("Monthly trends retrieved successfully")
-                .data(analytics.monthlyTrends())
+                .data(trends)
+                .build());
+    }
+
+    @GetMapping("/comparison")
+    public ResponseEntity<ApiResponse<List<AnalyticsResponse.PeriodComparison>>> getPeriodComparison(
+            @RequestParam(defaultValue = "MONTH") PeriodGranularity period,
+            @RequestParam(defaultValue = "12") int periods
+    ) {
+        List<AnalyticsResponse.PeriodComparison> comparison = analyticsService.buildPeriodComparison(period, periods);
+
+        return ResponseEntity.ok(ApiResponse.<List<AnalyticsResponse.PeriodComparison>>builder()
+                .success(true)
+                .message("Period comparison retrieved successfully")
+                .data(comparison)
+                .build());
+    }
+
+    @GetMapping("/time-series")
+    public ResponseEntity<ApiResponse<AnalyticsResponse.TimeSeries>> getTimeSeries(
+            @RequestParam(defaultValue = "DAY") PeriodGranularity granularity,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+        if (startDate == null) {
+            startDate = granularity.plus(granularity.truncate(endDate), -(DEFAULT_TIME_SERIES_BUCKETS - 1));
+        }
+
+        AnalyticsResponse.TimeSeries series = analyticsService.buildTimeSeries(granularity, startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.<AnalyticsResponse.TimeSeries>builder()
+                .success(true)
+                .message("Time series retrieved successfully")
+                .data(series)
+                .build());
+    }
+
+    @GetMapping("/top-payees")
+    public ResponseEntity<ApiResponse<List<AnalyticsResponse.PayeeSpend>>> getTopPayees(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        if (startDate == null || endDate == null) {
+            YearMonth currentMonth = YearMonth.now();
+            startDate = currentMonth.atDay(1);
+            endDate = currentMonth.atEndOfMonth();
+        }
+
+        List<AnalyticsResponse.PayeeSpend> payees =
+                analyticsService.buildTopPayees(startDate, endDate, Math.max(1, Math.min(limit, 100)));
+
+        return ResponseEntity.ok(ApiResponse.<List<AnalyticsResponse.PayeeSpend>>builder()
+                .success(true)
+                .message("Top payees retrieved successfully")
+                .data(payees)
+                .build());
+    }
+
+    @GetMapping("/amount-distribution")
+    public ResponseEntity<ApiResponse<AnalyticsResponse.AmountDistribution>> getAmountDistribution(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        if (startDate == null || endDate == null) {
+            YearMonth currentMonth = YearMonth.now();
+            startDate = currentMonth.atDay(1);
+            endDate = currentMonth.atEndOfMonth();
+        }
+
+        AnalyticsResponse.AmountDistribution distribution =
+                analyticsService.buildAmountDistribution(startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.<AnalyticsResponse.AmountDistribution>builder()
+                .success(true)
+                .message("Amount distribution retrieved successfully")
+                .data(distribution)
                 .build());
     }
 
@@ -95,11 +189,11 @@ public class AnalyticsController {
             startDate = currentMonth.atDay(1);
             endDate = currentMonth.atEndOfMonth();
         }
-        AnalyticsResponse analytics = analyticsService.getAnalytics(startDate, endDate);
+        List<AnalyticsResponse.CategoryBreakdown> breakdowns = analyticsService.buildCategoryBreakdowns(startDate, endDate);
         return ResponseEntity.ok(ApiResponse.<List<AnalyticsResponse.CategoryBreakdown>>builder()
                 .success(true)
                 .message("Category breakdown retrieved successfully")
-                .data(analytics.categoryBreakdowns())
+                .data(breakdowns)
                 .build());
     }
 }
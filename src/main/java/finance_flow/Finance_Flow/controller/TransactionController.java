@@ -1,8 +1,19 @@
 package finance_flow.Finance_Flow.controller;
 
+import finance_flow.Finance_Flow.dto.request.TransactionBatchRequest;
 import finance_flow.Finance_Flow.dto.request.TransactionRequest;
+import finance_flow.Finance_Flow.dto.request.TransactionSearchRequest;
 import finance_flow.Finance_Flow.dto.response.ApiResponse;
+import finance_flow.Finance_Flow.dto.response.CursorPageResponse;
+import finance_flow.Finance_Flow.dto.response.TransactionBatchResponse;
+import finance_flow.Finance_Flow.dto.response.TransactionImportResponse;
 import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+import finance_flow.Finance_Flow.model.enums.ExportFormat;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.service.TransactionBatchService;
+import finance_flow.Finance_Flow.service.TransactionExportService;
+import finance_flow.Finance_Flow.service.TransactionImportService;
+import finance_flow.Finance_Flow.service.TransactionSearchService;
 import finance_flow.Finance_Flow.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,12 +23,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/transactions")
@@ -25,7 +46,13 @@ import java.util.List;
 @Tag(name = "Transactions", description = "Transaction management APIs")
 public class TransactionController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionBatchService transactionBatchService;
+    private final TransactionSearchService transactionSearchService;
 
     @PostMapping
     @PreAuthorize("hasRole('USER')")
@@ -62,6 +89,127 @@ public class TransactionController {
         );
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Apply a batch of operations",
+            description = "Create, update and delete many transactions in one request with per-item results")
+    public ResponseEntity<ApiResponse<TransactionBatchResponse>> applyBatch(
+            @Valid @RequestBody TransactionBatchRequest request
+    ) {
+        TransactionBatchResponse response = transactionBatchService.applyBatch(request);
+
+        return ResponseEntity.ok(
+                ApiResponse.<TransactionBatchResponse>builder()
+                        .success(true)
+                        .message("Applied " + response.succeeded() + " of "
+                                + (response.succeeded() + response.failed()) + " operations")
+                        .data(response)
+                        .build()
+        );
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Import transactions",
+            description = "Bulk import a CSV with the header date,amount,type,category,description")
+    public ResponseEntity<ApiResponse<TransactionImportResponse>> importTransactions(
+            @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        TransactionImportResponse report;
+        try (InputStream inputStream = file.getInputStream()) {
+            report = transactionImportService.importCsv(inputStream);
+        }
+
+        return ResponseEntity.ok(
+                ApiResponse.<TransactionImportResponse>builder()
+                        .success(true)
+                        .message("Imported " + report.importedRows() + " of " + report.totalRows() + " transactions")
+                        .data(report)
+                        .build()
+        );
+    }
+
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Get transactions by cursor",
+            description = "Keyset pagination; pass an empty cursor for the first page and nextCursor afterwards")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TransactionResponse>>> getTransactionsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        CursorPageResponse<TransactionResponse> transactions = transactionService.getTransactionsByCursor(
+                cursor, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)), categoryId, type, startDate, endDate);
+
+        return ResponseEntity.ok(
+                ApiResponse.<CursorPageResponse<TransactionResponse>>builder()
+                        .success(true)
+                        .message("Transactions retrieved successfully")
+                        .data(transactions)
+                        .build()
+        );
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Search transactions",
+            description = "Filter by categories, type, date range, amount range and description text")
+    public ResponseEntity<ApiResponse<Page<TransactionResponse>>> searchTransactions(
+            @RequestParam(required = false) Set<Long> categoryIds,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String description,
+            @PageableDefault(size = 20, sort = "transactionDate", direction = Sort.Direction.DESC)
+            Pageable pageable
+    ) {
+        TransactionSearchRequest request = new TransactionSearchRequest(
+                categoryIds, type, startDate, endDate, minAmount, maxAmount, description);
+        Page<TransactionResponse> transactions = transactionService.searchTransactions(request, pageable);
+
+        return ResponseEntity.ok(
+                ApiResponse.<Page<TransactionResponse>>builder()
+                        .success(true)
+                        .message("Transactions retrieved successfully")
+                        .data(transactions)
+                        .build()
+        );
+    }
+
+    @GetMapping("/search/description")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Search transaction descriptions",
+            description = "Ranked, typo-tolerant description search with cursor pagination")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TransactionResponse>>> searchByDescription(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        CursorPageResponse<TransactionResponse> transactions = transactionSearchService.searchByDescription(
+                query, cursor, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)), startDate, endDate);
+
+        return ResponseEntity.ok(
+                ApiResponse.<CursorPageResponse<TransactionResponse>>builder()
+                        .success(true)
+                        .message("Transactions retrieved successfully")
+                        .data(transactions)
+                        .build()
+        );
+    }
+
     @GetMapping("/recent")
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "Get recent transactions", description = "Get the most recent N transactions")
@@ -79,6 +227,102 @@ public class TransactionController {
         );
     }
 
+    @GetMapping("/type/{type}")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Get transactions by type", description = "Paginated transactions of one type")
+    public ResponseEntity<ApiResponse<Page<TransactionResponse>>> getTransactionsByType(
+            @PathVariable TransactionType type,
+            @PageableDefault(size = 20, sort = "transactionDate", direction = Sort.Direction.DESC)
+            Pageable pageable
+    ) {
+        Page<TransactionResponse> transactions = transactionService.getTransactionsByType(type, pageable);
+
+        return ResponseEntity.ok(
+                ApiResponse.<Page<TransactionResponse>>builder()
+                        .success(true)
+                        .message("Transactions retrieved successfully")
+                        .data(transactions)
+                        .build()
+        );
+    }
+
+    @GetMapping("/date-range")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Get transactions by date range", description = "Paginated transactions between two dates")
+    public ResponseEntity<ApiResponse<Page<TransactionResponse>>> getTransactionsByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @PageableDefault(size = 20, sort = "transactionDate", direction = Sort.Direction.DESC)
+            Pageable pageable
+    ) {
+        Page<TransactionResponse> transactions =
+                transactionService.getTransactionsByDateRange(startDate, endDate, pageable);
+
+        return ResponseEntity.ok(
+                ApiResponse.<Page<TransactionResponse>>builder()
+                        .success(true)
+                        .message("Transactions retrieved successfully")
+                        .data(transactions)
+                        .build()
+        );
+    }
+
+    @GetMapping("/category/{categoryId}")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Get transactions by category", description = "Paginated transactions in one category")
+    public ResponseEntity<ApiResponse<Page<TransactionResponse>>> getTransactionsByCategory(
+            @PathVariable Long categoryId,
+            @PageableDefault(size = 20, sort = "transactionDate", direction = Sort.Direction.DESC)
+            Pageable pageable
+    ) {
+        Page<TransactionResponse> transactions = transactionService.getTransactionsByCategory(categoryId, pageable);
+
+        return ResponseEntity.ok(
+                ApiResponse.<Page<TransactionResponse>>builder()
+                        .success(true)
+                        .message("Transactions retrieved successfully")
+                        .data(transactions)
+                        .build()
+        );
+    }
+
+    @GetMapping("/stream")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Stream transactions",
+            description = "Stream every matching transaction as a JSON array without paging")
+    public ResponseEntity<StreamingResponseBody> streamTransactions(
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        StreamingResponseBody body = outputStream ->
+                transactionExportService.streamTransactions(type, categoryId, startDate, endDate, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Export transactions", description = "Stream all transactions as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = outputStream ->
+                transactionExportService.exportTransactions(exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "Get transaction by ID", description = "Retrieve a specific transaction by its ID")
@@ -0,0 +1,24 @@
+package finance_flow.Finance_Flow.dto.request;
+
+import finance_flow.Finance_Flow.model.enums.BatchOperationType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TransactionBatchRequest(
+        @NotEmpty(message = "At least one operation is required")
+        @Size(max = 5000, message = "A batch must not exceed 5000 operations")
+        List<@NotNull Operation> operations
+) {
+    public record Operation(
+            @NotNull(message = "Operation is required")
+            BatchOperationType operation,
+            Long id,
+            String clientId,
+            TransactionRequest transaction
+    ) {
+
+    }
+}
@@ -0,0 +1,19 @@
+package finance_flow.Finance_Flow.dto.request;
+
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+public record TransactionSearchRequest(
+        Set<Long> categoryIds,
+        TransactionType type,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        String description
+) {
+
+}
@@ -0,0 +1,35 @@
+package finance_flow.Finance_Flow.dto.response;
+
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record AdminReportResponse(
+        LocalDate reportingDay,
+        LocalDate startMonth,
+        LocalDate endMonth,
+        List<MonthlyReport> months
+) {
+    @Builder
+    public record MonthlyReport(
+            String month,
+            Long activeUsers,
+            Long transactionCount,
+            List<TypeVolume> volumeByType
+    ) {
+
+    }
+
+    @Builder
+    public record TypeVolume(
+            TransactionType type,
+            BigDecimal amount,
+            Long transactionCount
+    ) {
+
+    }
+}
@@ -1,5 +1,8 @@
 package finance_flow.Finance_Flow.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import finance_flow.Finance_Flow.model.enums.PeriodGranularity;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -8,12 +11,14 @@ import java.util.List;
 import java.util.Map;
 
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record AnalyticsResponse(
         FinancialSummary summary,
         List<CategoryBreakdown> categoryBreakdowns,
         List<MonthlyTrend> monthlyTrends,
         BudgetOverview budgetOverview,
-        List<SpendingInsight> insights
+        List<SpendingInsight> insights,
+        List<PayeeSpend> topPayees
 ) {
     @Builder
     public record FinancialSummary(
@@ -27,6 +32,8 @@ public record AnalyticsResponse(
             Integer expansiveTransactionsCount,
             Integer incomeTransactionsCount,
             BigDecimal differenceFromPreviousPeriod,
+            BigDecimal previousPeriodIncome,
+            BigDecimal previousPeriodExpenses,
             LocalDate periodStart,
             LocalDate periodEnd
     ) {
@@ -76,7 +83,71 @@ public record AnalyticsResponse(
             BigDecimal spent,
             BigDecimal remaining,
             BigDecimal utilizationRate,
-            String status
+            String status,
+            BigDecimal projectedSpend,
+            String projectedStatus
+    ) {
+
+    }
+
+    @Builder
+    public record PeriodComparison(
+            LocalDate periodStart,
+            LocalDate periodEnd,
+            BigDecimal income,
+            BigDecimal expenses,
+            BigDecimal net,
+            BigDecimal incomeChange,
+            BigDecimal expensesChange,
+            BigDecimal netChange,
+            BigDecimal incomeChangePercentage,
+            BigDecimal expensesChangePercentage
+    ) {
+
+    }
+
+    @Builder
+    public record TimeSeries(
+            PeriodGranularity granularity,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<LocalDate> buckets,
+            List<BigDecimal> income,
+            List<BigDecimal> expenses,
+            List<BigDecimal> net
+    ) {
+
+    }
+
+    @Builder
+    public record AmountDistribution(
+            LocalDate periodStart,
+            LocalDate periodEnd,
+            List<AmountQuantiles> byType,
+            List<AmountQuantiles> byCategory
+    ) {
+
+    }
+
+    @Builder
+    public record AmountQuantiles(
+            TransactionType type,
+            Long categoryId,
+            String categoryName,
+            Long transactionCount,
+            BigDecimal median,
+            BigDecimal p90,
+            BigDecimal p99
+    ) {
+
+    }
+
+    @Builder
+    public record PayeeSpend(
+            String payee,
+            BigDecimal amount,
+            Long transactionCount,
+            BigDecimal maxOverestimate
     ) {
 
     }
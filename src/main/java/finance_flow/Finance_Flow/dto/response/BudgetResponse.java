@@ -20,7 +20,9 @@ public record BudgetResponse(
         BigDecimal remainingAmount,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        Integer percentageUsed
+        Integer percentageUsed,
+        BigDecimal projectedSpend,
+        String projectedStatus
 ) {
 
 }
\ No newline at end of file
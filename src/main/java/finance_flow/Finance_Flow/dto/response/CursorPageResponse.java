@@ -0,0 +1,15 @@
+package finance_flow.Finance_Flow.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+
+}
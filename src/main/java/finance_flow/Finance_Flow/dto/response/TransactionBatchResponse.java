@@ -0,0 +1,28 @@
+package finance_flow.Finance_Flow.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import finance_flow.Finance_Flow.model.enums.BatchOperationType;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record TransactionBatchResponse(
+        int succeeded,
+        int failed,
+        List<ItemResult> results
+) {
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ItemResult(
+            int index,
+            String clientId,
+            BatchOperationType operation,
+            boolean success,
+            Long id,
+            String error,
+            TransactionResponse transaction
+    ) {
+
+    }
+}
@@ -0,0 +1,22 @@
+package finance_flow.Finance_Flow.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record TransactionImportResponse(
+        long totalRows,
+        long importedRows,
+        long rejectedRows,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+    @Builder
+    public record RowError(
+            long line,
+            String message
+    ) {
+
+    }
+}
@@ -0,0 +1,33 @@
+package finance_flow.Finance_Flow.job;
+
+import finance_flow.Finance_Flow.service.SpendingAnomalyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the per-category spending statistics from the full transaction
+ * history. Only needed once after deployment, or to reset drift; triggered
+ * by starting the application with {@code --rebuild-anomaly-stats}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnomalyStatsBootstrapRunner implements ApplicationRunner {
+
+    static final String OPTION = "rebuild-anomaly-stats";
+
+    private final SpendingAnomalyService spendingAnomalyService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        log.info("Rebuilding category spending statistics");
+        spendingAnomalyService.rebuildStats();
+    }
+}
@@ -0,0 +1,53 @@
+package finance_flow.Finance_Flow.job;
+
+import finance_flow.Finance_Flow.repository.projection.BalanceDriftView;
+import finance_flow.Finance_Flow.service.BalanceLedgerService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically checks every user's ledger balance against the sum of their
+ * transactions and corrects any drift.
+ */
+@Component
+@Slf4j
+public class BalanceReconciliationJob {
+
+    private final BalanceLedgerService balanceLedgerService;
+    private final Counter correctedCounter;
+
+    public BalanceReconciliationJob(BalanceLedgerService balanceLedgerService, MeterRegistry meterRegistry) {
+        this.balanceLedgerService = balanceLedgerService;
+        this.correctedCounter = Counter.builder("balance.ledger.corrections")
+                .description("Ledger balances corrected by reconciliation")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.balance.reconciliation.cron}")
+    public void reconcile() {
+        List<BalanceDriftView> drift = balanceLedgerService.findDrift();
+        if (drift.isEmpty()) {
+            log.debug("Balance ledger is consistent");
+            return;
+        }
+
+        int corrected = 0;
+        for (BalanceDriftView row : drift) {
+            try {
+                if (balanceLedgerService.reconcileUser(row.getUserId())) {
+                    corrected++;
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to reconcile balance for user {}", row.getUserId(), e);
+            }
+        }
+
+        correctedCounter.increment(corrected);
+        log.info("Balance reconciliation checked {} candidates, corrected {}", drift.size(), corrected);
+    }
+}
@@ -0,0 +1,44 @@
+package finance_flow.Finance_Flow.job;
+
+import finance_flow.Finance_Flow.service.PayeeSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Backfills the monthly payee summaries from raw transactions. Triggered
+ * by starting the application with {@code --rebuild-payee-summaries} (all
+ * users) or {@code --rebuild-payee-summaries=<userId>} (single user).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PayeeSummaryRebuildRunner implements ApplicationRunner {
+
+    static final String OPTION = "rebuild-payee-summaries";
+
+    private final PayeeSummaryService payeeSummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        List<String> userIds = args.getOptionValues(OPTION);
+        if (userIds == null || userIds.isEmpty() || userIds.stream().allMatch(String::isBlank)) {
+            log.info("Rebuilding payee summaries for all users");
+            payeeSummaryService.rebuildAll();
+            return;
+        }
+
+        for (String userId : userIds) {
+            log.info("Rebuilding payee summaries for user {}", userId);
+            payeeSummaryService.rebuildForUser(Long.valueOf(userId.trim()));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package finance_flow.Finance_Flow.job;
+
+import finance_flow.Finance_Flow.service.TransactionRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Backfills the monthly rollup table from raw transactions. Triggered by
+ * starting the application with {@code --rebuild-rollup} (all users) or
+ * {@code --rebuild-rollup=<userId>} (single user).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RollupRebuildRunner implements ApplicationRunner {
+
+    static final String OPTION = "rebuild-rollup";
+
+    private final TransactionRollupService rollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        List<String> userIds = args.getOptionValues(OPTION);
+        if (userIds == null || userIds.isEmpty() || userIds.stream().allMatch(String::isBlank)) {
+            log.info("Rebuilding monthly rollup for all users");
+            rollupService.rebuildAll();
+            return;
+        }
+
+        for (String userId : userIds) {
+            log.info("Rebuilding monthly rollup for user {}", userId);
+            rollupService.rebuildForUser(Long.valueOf(userId.trim()));
+        }
+    }
+}
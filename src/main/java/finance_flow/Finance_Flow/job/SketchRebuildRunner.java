@@ -0,0 +1,44 @@
+package finance_flow.Finance_Flow.job;
+
+import finance_flow.Finance_Flow.service.TransactionSketchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Backfills the transaction amount sketches from raw transactions. Triggered
+ * by starting the application with {@code --rebuild-amount-sketches} (all
+ * users) or {@code --rebuild-amount-sketches=<userId>} (single user).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SketchRebuildRunner implements ApplicationRunner {
+
+    static final String OPTION = "rebuild-amount-sketches";
+
+    private final TransactionSketchService sketchService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        List<String> userIds = args.getOptionValues(OPTION);
+        if (userIds == null || userIds.isEmpty() || userIds.stream().allMatch(String::isBlank)) {
+            log.info("Rebuilding amount sketches for all users");
+            sketchService.rebuildAll();
+            return;
+        }
+
+        for (String userId : userIds) {
+            log.info("Rebuilding amount sketches for user {}", userId);
+            sketchService.rebuildForUser(Long.valueOf(userId.trim()));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package finance_flow.Finance_Flow.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running mean and sum of squared deviations (Welford) of a user's expense
+ * amounts in one category.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "category_spending_stats")
+public class CategorySpendingStats {
+
+    @EmbeddedId
+    private CategorySpendingStatsId id;
+
+    @Column(name = "sample_count", nullable = false)
+    @Builder.Default
+    private Long sampleCount = 0L;
+
+    @Column(name = "mean", nullable = false)
+    @Builder.Default
+    private Double mean = 0.0;
+
+    @Column(name = "m2", nullable = false)
+    @Builder.Default
+    private Double m2 = 0.0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,35 @@
+package finance_flow.Finance_Flow.model;
+
+import finance_flow.Finance_Flow.service.analytics.PayeeCounter;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Space-Saving summary of one user's expense spend per payee in one month.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "payee_summaries")
+public class PayeeSummary {
+
+    @EmbeddedId
+    private PayeeSummaryId id;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "entries", nullable = false, columnDefinition = "jsonb")
+    @Builder.Default
+    private List<PayeeCounter> entries = new ArrayList<>();
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,51 @@
+package finance_flow.Finance_Flow.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "spending_anomalies", indexes = {
+        @Index(name = "idx_anomaly_user_date", columnList = "user_id, transaction_date"),
+        @Index(name = "idx_anomaly_transaction", columnList = "transaction_id")})
+public class SpendingAnomaly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "category_name", length = 100)
+    private String categoryName;
+
+    @Column(name = "amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "typical_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal typicalAmount;
+
+    @Column(name = "z_score", nullable = false)
+    private Double zScore;
+
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDate transactionDate;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+}
@@ -20,7 +20,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Table(name="transactions", indexes = {
-        @Index(name = "idx_user_date", columnList = "user_id, transaction_date"),
+        @Index(name = "idx_transactions_user_keyset",
+                columnList = "user_id, transaction_date DESC, created_at DESC, transaction_id DESC"),
+        @Index(name = "idx_transactions_user_type_date", columnList = "user_id, type, transaction_date DESC"),
+        @Index(name = "idx_transactions_user_category_date", columnList = "user_id, category_id, transaction_date DESC"),
+        @Index(name = "idx_transactions_user_amount", columnList = "user_id, amount"),
         @Index(name = "idx_category", columnList = "category_id")})
 @EntityListeners(AuditingEntityListener.class)
 public class Transaction {
@@ -0,0 +1,34 @@
+package finance_flow.Finance_Flow.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serialized t-digest of the transaction amounts of one user, month,
+ * category and type.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "transaction_amount_sketches")
+public class TransactionAmountSketch {
+
+    @EmbeddedId
+    private TransactionAmountSketchId id;
+
+    @Column(name = "digest")
+    @ToString.Exclude
+    private byte[] digest;
+
+    @Column(name = "sample_count", nullable = false)
+    @Builder.Default
+    private Long sampleCount = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
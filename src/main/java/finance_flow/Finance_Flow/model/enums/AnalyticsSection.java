@@ -0,0 +1,10 @@
+package finance_flow.Finance_Flow.model.enums;
+
+public enum AnalyticsSection {
+    SUMMARY,
+    CATEGORY_BREAKDOWNS,
+    MONTHLY_TRENDS,
+    BUDGET_OVERVIEW,
+    INSIGHTS,
+    TOP_PAYEES
+}
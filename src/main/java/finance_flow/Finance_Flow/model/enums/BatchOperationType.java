@@ -0,0 +1,7 @@
+package finance_flow.Finance_Flow.model.enums;
+
+public enum BatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,42 @@
+package finance_flow.Finance_Flow.model.enums;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+@Getter
+public enum PeriodGranularity {
+    DAY("day", "1 day", 1),
+    WEEK("week", "1 week", 1),
+    MONTH("month", "1 month", 1),
+    QUARTER("quarter", "3 months", 3);
+
+    private final String truncUnit;
+    private final String interval;
+    private final int step;
+
+    PeriodGranularity(String truncUnit, String interval, int step) {
+        this.truncUnit = truncUnit;
+        this.interval = interval;
+        this.step = step;
+    }
+
+    public LocalDate truncate(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case QUARTER -> date.withMonth((date.getMonthValue() - 1) / 3 * 3 + 1).withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate plus(LocalDate periodStart, long periods) {
+        return switch (this) {
+            case DAY -> periodStart.plusDays(periods);
+            case WEEK -> periodStart.plusWeeks(periods);
+            case MONTH, QUARTER -> periodStart.plusMonths(periods * step);
+        };
+    }
+}
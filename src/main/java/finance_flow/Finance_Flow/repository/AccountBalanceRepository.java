@@ -0,0 +1,77 @@
+package finance_flow.Finance_Flow.repository;
+
+import finance_flow.Finance_Flow.model.AccountBalance;
+import finance_flow.Finance_Flow.repository.projection.BalanceDriftView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountBalanceRepository extends JpaRepository<AccountBalance, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO account_balances (user_id, balance, updated_at) " +
+            "VALUES (:userId, :delta, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id) DO UPDATE SET " +
+            "balance = account_balances.balance + EXCLUDED.balance, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId, @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO account_balances (user_id, balance, updated_at) " +
+            "VALUES (:userId, 0, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id) DO NOTHING",
+            nativeQuery = true)
+    void ensureExists(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO account_balances (user_id, balance, updated_at) " +
+            "SELECT u.id, COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END), 0), " +
+            "CURRENT_TIMESTAMP " +
+            "FROM users u " +
+            "LEFT JOIN transactions t ON t.user_id = u.id " +
+            "GROUP BY u.id " +
+            "ON CONFLICT (user_id) DO UPDATE SET " +
+            "balance = EXCLUDED.balance, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int rebuildAll();
+
+    @Query("SELECT b.balance FROM AccountBalance b WHERE b.userId = :userId")
+    Optional<BigDecimal> findBalanceByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AccountBalance b WHERE b.userId = :userId")
+    Optional<AccountBalance> findForUpdate(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN type = 'INCOME' THEN amount ELSE -amount END), 0) " +
+            "FROM transactions WHERE user_id = :userId",
+            nativeQuery = true)
+    BigDecimal calculateTransactionBalance(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN type = 'INCOME' THEN amount ELSE -amount END), 0) " +
+            "FROM transactions WHERE user_id = :userId AND category_id = :categoryId",
+            nativeQuery = true)
+    BigDecimal calculateCategoryBalance(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+
+    @Query(value = "SELECT u.id AS \"userId\", " +
+            "COALESCE(b.balance, 0) AS \"ledgerBalance\", " +
+            "COALESCE(s.balance, 0) AS \"actualBalance\" " +
+            "FROM users u " +
+            "LEFT JOIN account_balances b ON b.user_id = u.id " +
+            "LEFT JOIN (SELECT user_id, " +
+            "SUM(CASE WHEN type = 'INCOME' THEN amount ELSE -amount END) AS balance " +
+            "FROM transactions GROUP BY user_id) s ON s.user_id = u.id " +
+            "WHERE b.user_id IS NULL OR COALESCE(b.balance, 0) <> COALESCE(s.balance, 0)",
+            nativeQuery = true)
+    List<BalanceDriftView> findDrift();
+}
@@ -3,8 +3,11 @@ package finance_flow.Finance_Flow.repository;
 import finance_flow.Finance_Flow.model.Budget;
 import finance_flow.Finance_Flow.model.Category;
 import finance_flow.Finance_Flow.model.User;
+import finance_flow.Finance_Flow.repository.projection.BudgetSpendView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -18,6 +21,7 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
 
     List<Budget> findByUser(User user);
 
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUserAndMonth(User user, LocalDate month);
 
     Optional<Budget> findByUserAndCategoryAndMonth(User user, Category category, LocalDate month);
@@ -29,4 +33,45 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     @Query("SELECT b FROM Budget b WHERE b.month = :month AND b.user = :user")
     List<Budget> findActiveBudgetsForMonth(User user, LocalDate month);
 
+    @Query(value = "WITH spend AS ( " +
+            "SELECT t.category_id, GROUPING(t.category_id) AS is_total, " +
+            "SUM(CASE WHEN t.transaction_date >= :monthStart THEN t.amount ELSE 0 END) AS spent, " +
+            "SUM(CASE WHEN t.transaction_date < :monthStart " +
+            "AND EXTRACT(DAY FROM t.transaction_date) > :elapsedDays THEN t.amount ELSE 0 END) AS history_remaining, " +
+            "SUM(CASE WHEN t.transaction_date < :monthStart THEN t.amount ELSE 0 END) AS history_total " +
+            "FROM transactions t " +
+            "WHERE t.user_id = :userId " +
+            "AND t.type = 'EXPENSE' " +
+            "AND t.transaction_date BETWEEN :historyStart AND :monthEnd " +
+            "GROUP BY GROUPING SETS ((t.category_id), ()) " +
+            "), history AS ( " +
+            "SELECT MIN(t.transaction_date) AS first_day " +
+            "FROM transactions t " +
+            "WHERE t.user_id = :userId " +
+            "AND t.transaction_date >= :historyStart AND t.transaction_date < :monthStart " +
+            ") " +
+            "SELECT b.id AS \"budgetId\", b.category_id AS \"categoryId\", c.name AS \"categoryName\", " +
+            "b.limit_amount AS \"limitAmount\", COALESCE(s.spent, 0) AS \"spent\", " +
+            "COALESCE(s.history_remaining, 0) AS \"historyRemaining\", " +
+            "COALESCE(s.history_total, 0) AS \"historyTotal\", " +
+            "COALESCE(CAST((EXTRACT(YEAR FROM CAST(:monthStart AS date)) - EXTRACT(YEAR FROM h.first_day)) * 12 " +
+            "+ EXTRACT(MONTH FROM CAST(:monthStart AS date)) - EXTRACT(MONTH FROM h.first_day) AS bigint), 0) " +
+            "AS \"historyMonths\" " +
+            "FROM budgets b " +
+            "CROSS JOIN history h " +
+            "LEFT JOIN categories c ON c.id = b.category_id " +
+            "LEFT JOIN spend s ON (b.category_id IS NULL AND s.is_total = 1) " +
+            "OR (s.is_total = 0 AND s.category_id = b.category_id) " +
+            "WHERE b.user_id = :userId AND b.month = :month " +
+            "ORDER BY b.id",
+            nativeQuery = true)
+    List<BudgetSpendView> findBudgetSpendForMonth(
+            @Param("userId") Long userId,
+            @Param("month") LocalDate month,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd,
+            @Param("historyStart") LocalDate historyStart,
+            @Param("elapsedDays") int elapsedDays
+    );
+
 }
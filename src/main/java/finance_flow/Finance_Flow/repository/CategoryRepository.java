@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,7 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
 
     List<Category> findByUser(User user);
     Optional<Category> findByIdAndUser(Long id, User user);
+    List<Category> findByUserAndIdIn(User user, Collection<Long> ids);
     List<Category> findByUserAndType(User user, TransactionType type);
     boolean existsByUserAndNameAndType(User user, String name, TransactionType type);
     Optional<Category> findByUserAndNameAndType(User user, String name, TransactionType type);
@@ -0,0 +1,65 @@
+package finance_flow.Finance_Flow.repository;
+
+import finance_flow.Finance_Flow.model.CategorySpendingStats;
+import finance_flow.Finance_Flow.model.CategorySpendingStatsId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CategorySpendingStatsRepository extends JpaRepository<CategorySpendingStats, CategorySpendingStatsId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO category_spending_stats (user_id, category_id, sample_count, mean, m2, updated_at) " +
+            "VALUES (:userId, :categoryId, 0, 0, 0, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id, category_id) DO NOTHING",
+            nativeQuery = true)
+    void ensureExists(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CategorySpendingStats s WHERE s.id = :id")
+    Optional<CategorySpendingStats> findForUpdate(@Param("id") CategorySpendingStatsId id);
+
+    @Modifying
+    @Query(value = "DELETE FROM category_spending_stats", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = "DELETE FROM category_spending_stats WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM category_spending_stats WHERE user_id = :userId AND category_id = :categoryId",
+            nativeQuery = true)
+    void deleteByUserIdAndCategoryId(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+
+    @Modifying
+    @Query(value = "INSERT INTO category_spending_stats (user_id, category_id, sample_count, mean, m2, updated_at) " +
+            "SELECT t.user_id, COALESCE(t.category_id, 0), COUNT(*), " +
+            "AVG(CAST(t.amount AS DOUBLE PRECISION)), " +
+            "COALESCE(VAR_SAMP(CAST(t.amount AS DOUBLE PRECISION)) * (COUNT(*) - 1), 0), " +
+            "CURRENT_TIMESTAMP " +
+            "FROM transactions t " +
+            "WHERE t.type = 'EXPENSE' AND t.user_id = :userId " +
+            "GROUP BY 1, 2",
+            nativeQuery = true)
+    int rebuildForUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO category_spending_stats (user_id, category_id, sample_count, mean, m2, updated_at) " +
+            "SELECT t.user_id, COALESCE(t.category_id, 0), COUNT(*), " +
+            "AVG(CAST(t.amount AS DOUBLE PRECISION)), " +
+            "COALESCE(VAR_SAMP(CAST(t.amount AS DOUBLE PRECISION)) * (COUNT(*) - 1), 0), " +
+            "CURRENT_TIMESTAMP " +
+            "FROM transactions t " +
+            "WHERE t.type = 'EXPENSE' " +
+            "GROUP BY 1, 2",
+            nativeQuery = true)
+    int rebuildAll();
+}
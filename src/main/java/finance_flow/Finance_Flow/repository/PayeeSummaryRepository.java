@@ -0,0 +1,43 @@
+package finance_flow.Finance_Flow.repository;
+
+import finance_flow.Finance_Flow.model.PayeeSummary;
+import finance_flow.Finance_Flow.model.PayeeSummaryId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayeeSummaryRepository extends JpaRepository<PayeeSummary, PayeeSummaryId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO payee_summaries (user_id, month, entries, updated_at) " +
+            "VALUES (:userId, :month, CAST('[]' AS JSONB), CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id, month) DO NOTHING",
+            nativeQuery = true)
+    void ensureExists(@Param("userId") Long userId, @Param("month") LocalDate month);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PayeeSummary s WHERE s.id = :id")
+    Optional<PayeeSummary> findForUpdate(@Param("id") PayeeSummaryId id);
+
+    @Query("SELECT s FROM PayeeSummary s " +
+            "WHERE s.id.userId = :userId " +
+            "AND s.id.month BETWEEN :startMonth AND :endMonth")
+    List<PayeeSummary> findByUserAndMonthRange(
+            @Param("userId") Long userId,
+            @Param("startMonth") LocalDate startMonth,
+            @Param("endMonth") LocalDate endMonth
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM payee_summaries WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,33 @@
+package finance_flow.Finance_Flow.repository;
+
+import finance_flow.Finance_Flow.model.SpendingAnomaly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SpendingAnomalyRepository extends JpaRepository<SpendingAnomaly, Long> {
+
+    @Query("SELECT a FROM SpendingAnomaly a " +
+            "WHERE a.userId = :userId " +
+            "AND a.transactionDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY a.zScore DESC")
+    List<SpendingAnomaly> findByUserAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying
+    @Query("DELETE FROM SpendingAnomaly a WHERE a.transactionId = :transactionId")
+    void deleteByTransactionId(@Param("transactionId") Long transactionId);
+
+    @Modifying
+    @Query("DELETE FROM SpendingAnomaly a WHERE a.userId = :userId AND a.categoryId = :categoryId")
+    void deleteByUserIdAndCategoryId(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+}
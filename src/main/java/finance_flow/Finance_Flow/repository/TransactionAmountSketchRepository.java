@@ -0,0 +1,66 @@
+package finance_flow.Finance_Flow.repository;
+
+import finance_flow.Finance_Flow.model.TransactionAmountSketch;
+import finance_flow.Finance_Flow.model.TransactionAmountSketchId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransactionAmountSketchRepository
+        extends JpaRepository<TransactionAmountSketch, TransactionAmountSketchId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_amount_sketches " +
+            "(user_id, month, category_id, type, sample_count, updated_at) " +
+            "VALUES (:userId, :month, :categoryId, :type, 0, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id, month, category_id, type) DO NOTHING",
+            nativeQuery = true)
+    void ensureExists(
+            @Param("userId") Long userId,
+            @Param("month") LocalDate month,
+            @Param("categoryId") Long categoryId,
+            @Param("type") String type
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_amount_sketches " +
+            "(user_id, month, category_id, type, digest, sample_count, updated_at) " +
+            "VALUES (:userId, :month, :categoryId, :type, :digest, :sampleCount, CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    void insert(
+            @Param("userId") Long userId,
+            @Param("month") LocalDate month,
+            @Param("categoryId") Long categoryId,
+            @Param("type") String type,
+            @Param("digest") byte[] digest,
+            @Param("sampleCount") long sampleCount
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TransactionAmountSketch s WHERE s.id = :id")
+    Optional<TransactionAmountSketch> findForUpdate(@Param("id") TransactionAmountSketchId id);
+
+    @Query("SELECT s, c.name FROM TransactionAmountSketch s " +
+            "LEFT JOIN Category c ON c.id = s.id.categoryId " +
+            "WHERE s.id.userId = :userId " +
+            "AND s.id.month BETWEEN :startMonth AND :endMonth " +
+            "AND s.sampleCount > 0")
+    List<Object[]> findWithCategoryName(
+            @Param("userId") Long userId,
+            @Param("startMonth") LocalDate startMonth,
+            @Param("endMonth") LocalDate endMonth
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_amount_sketches WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+}
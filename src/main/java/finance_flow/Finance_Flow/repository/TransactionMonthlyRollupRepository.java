@@ -0,0 +1,122 @@
+package finance_flow.Finance_Flow.repository;
+
+import finance_flow.Finance_Flow.model.TransactionMonthlyRollup;
+import finance_flow.Finance_Flow.model.TransactionMonthlyRollupId;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.projection.CategorySpendView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TransactionMonthlyRollupRepository extends JpaRepository<TransactionMonthlyRollup, TransactionMonthlyRollupId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_monthly_rollup " +
+            "(user_id, month, category_id, type, total_amount, transaction_count) " +
+            "VALUES (:userId, :month, :categoryId, :type, :amount, :count) " +
+            "ON CONFLICT (user_id, month, category_id, type) DO UPDATE SET " +
+            "total_amount = transaction_monthly_rollup.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = transaction_monthly_rollup.transaction_count + EXCLUDED.transaction_count",
+            nativeQuery = true)
+    void applyDelta(
+            @Param("userId") Long userId,
+            @Param("month") LocalDate month,
+            @Param("categoryId") Long categoryId,
+            @Param("type") String type,
+            @Param("amount") BigDecimal amount,
+            @Param("count") long count
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_monthly_rollup WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_monthly_rollup WHERE user_id = :userId AND category_id = :categoryId",
+            nativeQuery = true)
+    void deleteByUserIdAndCategoryId(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_monthly_rollup " +
+            "(user_id, month, category_id, type, total_amount, transaction_count) " +
+            "SELECT t.user_id, CAST(date_trunc('month', t.transaction_date) AS DATE), " +
+            "COALESCE(t.category_id, 0), t.type, SUM(t.amount), COUNT(*) " +
+            "FROM transactions t " +
+            "WHERE t.user_id = :userId " +
+            "GROUP BY 1, 2, 3, 4",
+            nativeQuery = true)
+    int rebuildForUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_monthly_rollup", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_monthly_rollup " +
+            "(user_id, month, category_id, type, total_amount, transaction_count) " +
+            "SELECT t.user_id, CAST(date_trunc('month', t.transaction_date) AS DATE), " +
+            "COALESCE(t.category_id, 0), t.type, SUM(t.amount), COUNT(*) " +
+            "FROM transactions t " +
+            "GROUP BY 1, 2, 3, 4",
+            nativeQuery = true)
+    int rebuildAll();
+
+    @Query("SELECT r.id.month, r.id.type, COALESCE(SUM(r.totalAmount), 0) " +
+            "FROM TransactionMonthlyRollup r " +
+            "WHERE r.id.userId = :userId " +
+            "AND r.id.month BETWEEN :startMonth AND :endMonth " +
+            "GROUP BY r.id.month, r.id.type " +
+            "HAVING SUM(r.transactionCount) > 0 " +
+            "ORDER BY r.id.month")
+    List<Object[]> getMonthlyTrends(
+            @Param("userId") Long userId,
+            @Param("startMonth") LocalDate startMonth,
+            @Param("endMonth") LocalDate endMonth
+    );
+
+    @Query("SELECT c.id AS categoryId, c.name AS categoryName, c.icon AS categoryIcon, " +
+            "c.color AS categoryColor, COALESCE(SUM(r.totalAmount), 0) AS amount, " +
+            "COALESCE(SUM(r.transactionCount), 0) AS transactionCount " +
+            "FROM TransactionMonthlyRollup r JOIN Category c ON c.id = r.id.categoryId " +
+            "WHERE r.id.userId = :userId " +
+            "AND r.id.type = :type " +
+            "AND r.id.month BETWEEN :startMonth AND :endMonth " +
+            "GROUP BY c.id, c.name, c.icon, c.color " +
+            "HAVING SUM(r.transactionCount) > 0 " +
+            "ORDER BY SUM(r.totalAmount) DESC")
+    List<CategorySpendView> findCategorySpend(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("startMonth") LocalDate startMonth,
+            @Param("endMonth") LocalDate endMonth
+    );
+
+    @Query("SELECT COALESCE(SUM(r.totalAmount), 0) FROM TransactionMonthlyRollup r " +
+            "WHERE r.id.userId = :userId " +
+            "AND r.id.type = :type " +
+            "AND r.id.month = :month")
+    BigDecimal sumByUserAndTypeAndMonth(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("month") LocalDate month
+    );
+
+    @Query("SELECT COALESCE(SUM(r.totalAmount), 0) FROM TransactionMonthlyRollup r " +
+            "WHERE r.id.userId = :userId " +
+            "AND r.id.categoryId = :categoryId " +
+            "AND r.id.type = :type " +
+            "AND r.id.month = :month")
+    BigDecimal sumByUserAndCategoryAndTypeAndMonth(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("month") LocalDate month
+    );
+}
@@ -1,13 +1,24 @@
 package finance_flow.Finance_Flow.repository;
 
-import finance_flow.Finance_Flow.model.Category;
+import finance_flow.Finance_Flow.dto.response.TransactionResponse;
 import finance_flow.Finance_Flow.model.Transaction;
 import finance_flow.Finance_Flow.model.User;
 import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.projection.CategorySpendView;
+import finance_flow.Finance_Flow.repository.projection.MonthlyVolumeView;
+import finance_flow.Finance_Flow.repository.projection.PeriodTotalsView;
+import finance_flow.Finance_Flow.repository.projection.TimeSeriesBucketView;
+import finance_flow.Finance_Flow.repository.projection.TransactionRow;
+import finance_flow.Finance_Flow.repository.projection.TransactionSummaryView;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,31 +26,37 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction>,
+        TransactionRepositoryCustom {
+
+    String RESPONSE_SELECT = "SELECT new finance_flow.Finance_Flow.dto.response.TransactionResponse(" +
+            "t.id, c.name, c.color, t.amount, t.type, t.description, c.id, c.icon, " +
+            "t.transactionDate, t.createdAt, t.updatedAt) " +
+            "FROM Transaction t LEFT JOIN t.category c ";
 
     List<Transaction> findByUserId(Long userId);
 
     Optional<Transaction> findByIdAndUser(Long id, User user);
 
-    List<Transaction> findByUserAndType(User user, TransactionType type);
-
-    @Query("SELECT t FROM Transaction t WHERE t.user = :user " +
-            "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
-            "AND (:type IS NULL OR t.type = :type) " +
-            "AND (:startDate IS NULL OR t.transactionDate >= :startDate) " +
-            "AND (:endDate IS NULL OR t.transactionDate <= :endDate) " +
-            "ORDER BY t.transactionDate DESC, t.createdAt DESC")
-    Page<Transaction> findByUserAndFilters(
-            @Param("user") User user,
-            @Param("categoryId") Long categoryId,
+    @Query(value = RESPONSE_SELECT + "WHERE t.user.id = :userId AND t.type = :type",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId AND t.type = :type")
+    Page<TransactionResponse> findResponsesByType(
+            @Param("userId") Long userId,
             @Param("type") TransactionType type,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
             Pageable pageable
     );
 
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Page<Transaction> findAll(Specification<Transaction> specification, Pageable pageable);
+
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
             "WHERE t.user.id = :userId AND t.type = :type " +
             "AND t.transactionDate BETWEEN :startDate AND :endDate")
@@ -50,37 +67,9 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDate endDate
     );
 
-    @Query("SELECT COUNT(t) FROM Transaction t " +
-            "WHERE t.user = :user " +
-            "AND t.type = :type " +
-            "AND t.transactionDate BETWEEN :startDate AND :endDate")
-    Integer countByUserAndTypeAndTransactionDateBetween(
-            User user,
-            TransactionType type,
-            LocalDate startDate,
-            LocalDate endDate
-    );
-
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-            "WHERE t.user.id = :userId AND t.type = :type " +
-            "AND t.transactionDate BETWEEN :startDate AND :endDate")
-    BigDecimal calculatePeriodSum(
-            Long userId,
-            TransactionType type,
-            LocalDate startDate,
-            LocalDate endDate
-    );
-
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-            "WHERE t.category.id = :id " +
-            "AND t.type = :transactionType " +
-            "AND t.transactionDate BETWEEN :startOfMonth AND :endOfMonth")
-    BigDecimal sumByCategoryAndTypeAndDateRange(Long id, TransactionType transactionType, LocalDate startOfMonth, LocalDate endOfMonth);
-
-
-    @Query("SELECT t FROM Transaction t WHERE t.user = :user " +
+    @Query(RESPONSE_SELECT + "WHERE t.user.id = :userId " +
             "ORDER BY t.transactionDate DESC, t.createdAt DESC")
-    List<Transaction> findRecentTransactions(@Param("user") User user, Pageable pageable);
+    List<TransactionResponse> findRecentResponses(@Param("userId") Long userId, Pageable pageable);
 
     @Query("SELECT t.category.name, SUM(t.amount) " +
             "FROM Transaction t " +
@@ -95,44 +84,145 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
     void deleteByUserAndTransactionDateBefore(User user, LocalDate date);
 
-    Page<Transaction> findAllByUser(User currentUser, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + "WHERE t.user.id = :userId",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId")
+    Page<TransactionResponse> findResponsesByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    List<Transaction> findByUserAndTransactionDateBetween(User user, LocalDate startDate, LocalDate endDate);
+    @Query(value = RESPONSE_SELECT + "WHERE t.user.id = :userId " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId " +
+                    "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    Page<TransactionResponse> findResponsesByDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
 
-    List<Transaction> findByUserAndCategory(User currentUser, Category category);
+    @Query(value = RESPONSE_SELECT + "WHERE t.user.id = :userId AND c.id = :categoryId",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId " +
+                    "AND t.category.id = :categoryId")
+    Page<TransactionResponse> findResponsesByCategory(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            Pageable pageable
+    );
 
-    @Query("SELECT t.category.id, COALESCE(SUM(t.amount), 0) " +
+    @Query("SELECT FUNCTION('TO_CHAR', t.transactionDate, 'YYYY-MM'), " +
+            "t.type, COALESCE(SUM(t.amount), 0) " +
             "FROM Transaction t " +
             "WHERE t.user.id = :userId " +
-            "AND t.type = :type " +
             "AND t.transactionDate BETWEEN :startDate AND :endDate " +
-            "GROUP BY t.category.id")
-    List<Object[]> sumByCategoryAndDateRange(
+            "GROUP BY FUNCTION('TO_CHAR', t.transactionDate, 'YYYY-MM'), t.type " +
+            "ORDER BY FUNCTION('TO_CHAR', t.transactionDate, 'YYYY-MM')")
+    List<Object[]> getMonthlyTrends(
             @Param("userId") Long userId,
-            @Param("type") TransactionType type,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
 
-    @Query("SELECT FUNCTION('TO_CHAR', t.transactionDate, 'YYYY-MM'), " +
-            "t.type, COALESCE(SUM(t.amount), 0) " +
+    @Query("SELECT " +
+            "COALESCE(SUM(CASE WHEN t.type = 'INCOME' AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "THEN t.amount ELSE 0 END), 0) AS incomeSum, " +
+            "COUNT(CASE WHEN t.type = 'INCOME' AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "THEN 1 END) AS incomeCount, " +
+            "COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "THEN t.amount ELSE 0 END), 0) AS expenseSum, " +
+            "COUNT(CASE WHEN t.type = 'EXPENSE' AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "THEN 1 END) AS expenseCount, " +
+            "COALESCE(SUM(CASE WHEN t.type = 'INCOME' AND t.transactionDate BETWEEN :prevStartDate AND :prevEndDate " +
+            "THEN t.amount ELSE 0 END), 0) AS previousIncomeSum, " +
+            "COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' AND t.transactionDate BETWEEN :prevStartDate AND :prevEndDate " +
+            "THEN t.amount ELSE 0 END), 0) AS previousExpenseSum " +
             "FROM Transaction t " +
             "WHERE t.user.id = :userId " +
+            "AND (t.transactionDate BETWEEN :startDate AND :endDate " +
+            "OR t.transactionDate BETWEEN :prevStartDate AND :prevEndDate)")
+    TransactionSummaryView summarizeByUser(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("prevStartDate") LocalDate prevStartDate,
+            @Param("prevEndDate") LocalDate prevEndDate
+    );
+
+    @Query("SELECT c.id AS categoryId, c.name AS categoryName, c.icon AS categoryIcon, " +
+            "c.color AS categoryColor, COALESCE(SUM(t.amount), 0) AS amount, COUNT(t) AS transactionCount " +
+            "FROM Transaction t JOIN t.category c " +
+            "WHERE t.user.id = :userId " +
+            "AND t.type = :type " +
             "AND t.transactionDate BETWEEN :startDate AND :endDate " +
-            "GROUP BY FUNCTION('TO_CHAR', t.transactionDate, 'YYYY-MM'), t.type " +
-            "ORDER BY FUNCTION('TO_CHAR', t.transactionDate, 'YYYY-MM')")
-    List<Object[]> getMonthlyTrends(
+            "GROUP BY c.id, c.name, c.icon, c.color " +
+            "ORDER BY SUM(t.amount) DESC")
+    List<CategorySpendView> findCategorySpend(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query(value = "SELECT * FROM (" +
+            "SELECT TO_CHAR(p.period_start, 'YYYY-MM-DD') AS \"periodStart\", " +
+            "COALESCE(s.income, 0) AS \"income\", " +
+            "COALESCE(s.expenses, 0) AS \"expenses\", " +
+            "LAG(COALESCE(s.income, 0)) OVER w AS \"previousIncome\", " +
+            "LAG(COALESCE(s.expenses, 0)) OVER w AS \"previousExpenses\" " +
+            "FROM (SELECT CAST(gs AS DATE) AS period_start " +
+            "FROM generate_series(CAST(:firstPeriod AS TIMESTAMP), CAST(:lastPeriod AS TIMESTAMP), " +
+            "CAST(:step AS INTERVAL)) gs) p " +
+            "LEFT JOIN (SELECT CAST(date_trunc(:unit, t.transaction_date) AS DATE) AS period_start, " +
+            "SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END) AS income, " +
+            "SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END) AS expenses " +
+            "FROM transactions t " +
+            "WHERE t.user_id = :userId " +
+            "AND t.transaction_date >= :firstPeriod AND t.transaction_date < :rangeEnd " +
+            "GROUP BY 1) s ON s.period_start = p.period_start " +
+            "WINDOW w AS (ORDER BY p.period_start)" +
+            ") windowed " +
+            "WHERE \"periodStart\" >= TO_CHAR(CAST(:displayStart AS DATE), 'YYYY-MM-DD') " +
+            "ORDER BY \"periodStart\"",
+            nativeQuery = true)
+    List<PeriodTotalsView> comparePeriods(
             @Param("userId") Long userId,
+            @Param("unit") String unit,
+            @Param("step") String step,
+            @Param("firstPeriod") LocalDate firstPeriod,
+            @Param("displayStart") LocalDate displayStart,
+            @Param("lastPeriod") LocalDate lastPeriod,
+            @Param("rangeEnd") LocalDate rangeEnd
+    );
+
+    @Query(value = "SELECT TO_CHAR(b.bucket, 'YYYY-MM-DD') AS \"bucket\", " +
+            "COALESCE(s.income, 0) AS \"income\", " +
+            "COALESCE(s.expenses, 0) AS \"expenses\" " +
+            "FROM (SELECT CAST(gs AS DATE) AS bucket " +
+            "FROM generate_series(CAST(:firstBucket AS TIMESTAMP), CAST(:lastBucket AS TIMESTAMP), " +
+            "CAST(:step AS INTERVAL)) gs) b " +
+            "LEFT JOIN (SELECT CAST(date_trunc(:unit, t.transaction_date) AS DATE) AS bucket, " +
+            "SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END) AS income, " +
+            "SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END) AS expenses " +
+            "FROM transactions t " +
+            "WHERE t.user_id = :userId " +
+            "AND t.transaction_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY 1) s ON s.bucket = b.bucket " +
+            "ORDER BY b.bucket",
+            nativeQuery = true)
+    List<TimeSeriesBucketView> getTimeSeries(
+            @Param("userId") Long userId,
+            @Param("unit") String unit,
+            @Param("step") String step,
+            @Param("firstBucket") LocalDate firstBucket,
+            @Param("lastBucket") LocalDate lastBucket,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
 
-    @Query("SELECT COUNT(t) FROM Transaction t " +
+    @Query("SELECT t.amount FROM Transaction t LEFT JOIN t.category c " +
             "WHERE t.user.id = :userId " +
-            "AND t.category.id = :categoryId " +
             "AND t.type = :type " +
+            "AND COALESCE(c.id, 0) = :categoryId " +
             "AND t.transactionDate BETWEEN :startDate AND :endDate")
-    Long countByCategoryAndTypeAndDateRange(
+    List<BigDecimal> findAmounts(
             @Param("userId") Long userId,
             @Param("categoryId") Long categoryId,
             @Param("type") TransactionType type,
@@ -140,14 +230,48 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDate endDate
     );
 
-    @Query("SELECT COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount " +
-            "WHEN t.type = 'EXPENSE' THEN -t.amount ELSE 0 END), 0) " +
-            "FROM Transaction t " +
-            "WHERE t.user = :user")
-    BigDecimal calculateTotalBalance(User user);
-
-    @Query("SELECT COALESCE(AVG(t.amount), 0) FROM Transaction t " +
-            "WHERE t.user.id = :userId AND t.type = :transactionType " +
+    @Query("SELECT t.description, t.amount FROM Transaction t " +
+            "WHERE t.user.id = :userId " +
+            "AND t.type = 'EXPENSE' " +
+            "AND t.description IS NOT NULL " +
             "AND t.transactionDate BETWEEN :startDate AND :endDate")
-    BigDecimal averageByUserAndTypeAndDateRange(Long userId, TransactionType transactionType, LocalDate startDate, LocalDate endDate);
+    List<Object[]> findExpenseDescriptions(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT DISTINCT t.user.id FROM Transaction t ORDER BY t.user.id")
+    List<Long> findUserIdsWithTransactions();
+
+    @Query(value = "SELECT TO_CHAR(DATE_TRUNC('month', t.transaction_date), 'YYYY-MM-DD') AS \"month\", " +
+            "COALESCE(c.type, t.type) AS \"type\", " +
+            "SUM(t.amount) AS \"totalAmount\", " +
+            "COUNT(*) AS \"transactionCount\", " +
+            "COUNT(DISTINCT t.user_id) AS \"activeUsers\" " +
+            "FROM transactions t " +
+            "LEFT JOIN categories c ON c.id = t.category_id " +
+            "WHERE t.user_id BETWEEN :minUserId AND :maxUserId " +
+            "AND t.transaction_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY GROUPING SETS ((DATE_TRUNC('month', t.transaction_date), COALESCE(c.type, t.type)), " +
+            "(DATE_TRUNC('month', t.transaction_date)))",
+            nativeQuery = true)
+    List<MonthlyVolumeView> getMonthlyVolumeForUserRange(
+            @Param("minUserId") Long minUserId,
+            @Param("maxUserId") Long maxUserId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT new finance_flow.Finance_Flow.repository.projection.TransactionRow(" +
+            "t.id, t.transactionDate, t.type, t.amount, c.id, c.name, t.description, t.createdAt) " +
+            "FROM Transaction t LEFT JOIN t.category c " +
+            "WHERE t.user.id = :userId " +
+            "ORDER BY t.transactionDate ASC, t.id ASC")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<TransactionRow> streamRowsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,12 @@
+package finance_flow.Finance_Flow.repository;
+
+import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+import finance_flow.Finance_Flow.model.Transaction;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface TransactionRepositoryCustom {
+
+    Stream<TransactionResponse> streamResponses(Specification<Transaction> specification);
+}
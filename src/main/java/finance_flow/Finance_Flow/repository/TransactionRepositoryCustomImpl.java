@@ -0,0 +1,51 @@
+package finance_flow.Finance_Flow.repository;
+
+import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+import finance_flow.Finance_Flow.model.Category;
+import finance_flow.Finance_Flow.model.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+class TransactionRepositoryCustomImpl implements TransactionRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<TransactionResponse> streamResponses(Specification<Transaction> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        Join<Transaction, Category> category = root.join("category", JoinType.LEFT);
+
+        query.select(cb.construct(TransactionResponse.class,
+                root.get("id"), category.get("name"), category.get("color"), root.get("amount"),
+                root.get("type"), root.get("description"), category.get("id"), category.get("icon"),
+                root.get("transactionDate"), root.get("createdAt"), root.get("updatedAt")));
+        query.where(specification.toPredicate(root, query, cb));
+        query.orderBy(
+                cb.desc(root.get("transactionDate")),
+                cb.desc(root.get("createdAt")),
+                cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HINT_READ_ONLY, true)
+                .setHint(HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+}
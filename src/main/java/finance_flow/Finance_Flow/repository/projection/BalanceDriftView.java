@@ -0,0 +1,12 @@
+package finance_flow.Finance_Flow.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface BalanceDriftView {
+
+    Long getUserId();
+
+    BigDecimal getLedgerBalance();
+
+    BigDecimal getActualBalance();
+}
@@ -0,0 +1,22 @@
+package finance_flow.Finance_Flow.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface BudgetSpendView {
+
+    Long getBudgetId();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    BigDecimal getLimitAmount();
+
+    BigDecimal getSpent();
+
+    BigDecimal getHistoryRemaining();
+
+    BigDecimal getHistoryTotal();
+
+    Long getHistoryMonths();
+}
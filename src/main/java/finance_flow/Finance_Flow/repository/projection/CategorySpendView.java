@@ -0,0 +1,18 @@
+package finance_flow.Finance_Flow.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface CategorySpendView {
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    String getCategoryIcon();
+
+    String getCategoryColor();
+
+    BigDecimal getAmount();
+
+    Long getTransactionCount();
+}
@@ -0,0 +1,16 @@
+package finance_flow.Finance_Flow.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface MonthlyVolumeView {
+
+    String getMonth();
+
+    String getType();
+
+    BigDecimal getTotalAmount();
+
+    Long getTransactionCount();
+
+    Long getActiveUsers();
+}
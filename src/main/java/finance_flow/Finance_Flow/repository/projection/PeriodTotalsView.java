@@ -0,0 +1,16 @@
+package finance_flow.Finance_Flow.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface PeriodTotalsView {
+
+    String getPeriodStart();
+
+    BigDecimal getIncome();
+
+    BigDecimal getExpenses();
+
+    BigDecimal getPreviousIncome();
+
+    BigDecimal getPreviousExpenses();
+}
@@ -0,0 +1,20 @@
+package finance_flow.Finance_Flow.repository.projection;
+
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record TransactionRow(
+        Long id,
+        LocalDate transactionDate,
+        TransactionType type,
+        BigDecimal amount,
+        Long categoryId,
+        String categoryName,
+        String description,
+        LocalDateTime createdAt
+) {
+
+}
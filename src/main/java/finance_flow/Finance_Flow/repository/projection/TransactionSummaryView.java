@@ -0,0 +1,18 @@
+package finance_flow.Finance_Flow.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface TransactionSummaryView {
+
+    BigDecimal getIncomeSum();
+
+    Long getIncomeCount();
+
+    BigDecimal getExpenseSum();
+
+    Long getExpenseCount();
+
+    BigDecimal getPreviousIncomeSum();
+
+    BigDecimal getPreviousExpenseSum();
+}
@@ -0,0 +1,86 @@
+package finance_flow.Finance_Flow.repository.specification;
+
+import finance_flow.Finance_Flow.dto.request.TransactionSearchRequest;
+import finance_flow.Finance_Flow.model.Transaction;
+import finance_flow.Finance_Flow.util.TransactionCursor;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds transaction search predicates from only the filters that were
+ * supplied, so every filter combination gets its own statement and plan
+ * instead of one generic {@code (:x IS NULL OR ...)} query.
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> search(Long userId, TransactionSearchRequest request) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("user").get("id"), userId));
+
+            if (request.categoryIds() != null && !request.categoryIds().isEmpty()) {
+                predicates.add(root.get("category").get("id").in(request.categoryIds()));
+            }
+            if (request.type() != null) {
+                predicates.add(cb.equal(root.get("type"), request.type()));
+            }
+            if (request.startDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("transactionDate"), request.startDate()));
+            }
+            if (request.endDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("transactionDate"), request.endDate()));
+            }
+            if (request.minAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), request.minAmount()));
+            }
+            if (request.maxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amount"), request.maxAmount()));
+            }
+            if (request.description() != null && !request.description().isBlank()) {
+                predicates.add(cb.like(cb.lower(root.get("description")),
+                        "%" + escapeLike(request.description().trim().toLowerCase(Locale.ROOT)) + "%", '\\'));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Rows after the cursor in the keyset order (transaction date, creation
+     * time, id), all descending. The leading date bound is implied by the
+     * rest, but it keeps the index range scan from starting at the newest row.
+     */
+    public static Specification<Transaction> after(TransactionCursor cursor) {
+        return (root, query, cb) -> {
+            Path<LocalDate> date = root.get("transactionDate");
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<Long> id = root.get("id");
+
+            return cb.and(
+                    cb.lessThanOrEqualTo(date, cursor.transactionDate()),
+                    cb.or(
+                            cb.lessThan(date, cursor.transactionDate()),
+                            cb.and(
+                                    cb.equal(date, cursor.transactionDate()),
+                                    cb.or(
+                                            cb.lessThan(createdAt, cursor.createdAt()),
+                                            cb.and(
+                                                    cb.equal(createdAt, cursor.createdAt()),
+                                                    cb.lessThan(id, cursor.id()))))));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
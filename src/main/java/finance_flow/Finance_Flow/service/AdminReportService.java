@@ -0,0 +1,10 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.dto.response.AdminReportResponse;
+
+import java.time.LocalDate;
+
+public interface AdminReportService {
+
+    AdminReportResponse getMonthlyReport(LocalDate startMonth, LocalDate endMonth);
+}
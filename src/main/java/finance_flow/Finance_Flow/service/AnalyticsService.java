@@ -1,15 +1,22 @@
 package finance_flow.Finance_Flow.service;
 
 import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import finance_flow.Finance_Flow.model.enums.AnalyticsSection;
+import finance_flow.Finance_Flow.model.enums.PeriodGranularity;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 public interface AnalyticsService {
 
     AnalyticsResponse getAnalytics(LocalDate startDate,
                                    LocalDate endDate);
 
+    AnalyticsResponse getAnalytics(LocalDate startDate,
+                                   LocalDate endDate,
+                                   Set<AnalyticsSection> sections);
+
     AnalyticsResponse.FinancialSummary buildFinancialSummary(LocalDate startDate,
                                                              LocalDate endDate);
 
@@ -22,4 +29,18 @@ public interface AnalyticsService {
             LocalDate endDate);
 
     AnalyticsResponse.BudgetOverview buildBudgetOverview(LocalDate month);
+
+    List<AnalyticsResponse.PeriodComparison> buildPeriodComparison(PeriodGranularity granularity,
+                                                                   int periods);
+
+    List<AnalyticsResponse.PayeeSpend> buildTopPayees(LocalDate startDate,
+                                                      LocalDate endDate,
+                                                      int limit);
+
+    AnalyticsResponse.AmountDistribution buildAmountDistribution(LocalDate startDate,
+                                                                 LocalDate endDate);
+
+    AnalyticsResponse.TimeSeries buildTimeSeries(PeriodGranularity granularity,
+                                                 LocalDate startDate,
+                                                 LocalDate endDate);
 }
@@ -0,0 +1,28 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.model.Transaction;
+import finance_flow.Finance_Flow.repository.projection.BalanceDriftView;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface BalanceLedgerService {
+
+    void recordCreated(Transaction transaction);
+
+    void recordDeleted(Transaction transaction);
+
+    void recordUpdated(Transaction previous, Transaction current);
+
+    void recordBulkDelta(Long userId, BigDecimal delta);
+
+    void recordCategoryDeleting(Long userId, Long categoryId);
+
+    BigDecimal getBalance(Long userId);
+
+    List<BalanceDriftView> findDrift();
+
+    boolean reconcileUser(Long userId);
+
+    int rebuildAll();
+}
@@ -0,0 +1,20 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.model.Transaction;
+
+import java.util.Collection;
+
+public interface PayeeSummaryService {
+
+    void recordCreated(Transaction transaction);
+
+    void recordDeleted(Transaction transaction);
+
+    void recordUpdated(Transaction previous, Transaction current);
+
+    void rebuildMonths(Collection<Transaction> transactions);
+
+    int rebuildForUser(Long userId);
+
+    int rebuildAll();
+}
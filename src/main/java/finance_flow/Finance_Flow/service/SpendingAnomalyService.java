@@ -0,0 +1,25 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.model.SpendingAnomaly;
+import finance_flow.Finance_Flow.model.Transaction;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface SpendingAnomalyService {
+
+    Optional<SpendingAnomaly> recordCreated(Transaction transaction);
+
+    void recordDeleted(Transaction transaction);
+
+    Optional<SpendingAnomaly> recordUpdated(Transaction previous, Transaction current);
+
+    void recordCategoryDeleted(Long userId, Long categoryId);
+
+    List<SpendingAnomaly> findAnomalies(Long userId, LocalDate startDate, LocalDate endDate);
+
+    int rebuildStats();
+
+    int rebuildStatsForUser(Long userId);
+}
@@ -0,0 +1,9 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.dto.request.TransactionBatchRequest;
+import finance_flow.Finance_Flow.dto.response.TransactionBatchResponse;
+
+public interface TransactionBatchService {
+
+    TransactionBatchResponse applyBatch(TransactionBatchRequest request);
+}
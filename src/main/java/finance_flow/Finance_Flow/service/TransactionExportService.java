@@ -0,0 +1,19 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.model.enums.ExportFormat;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface TransactionExportService {
+
+    long exportTransactions(ExportFormat format, OutputStream outputStream) throws IOException;
+
+    long streamTransactions(TransactionType type,
+                            Long categoryId,
+                            LocalDate startDate,
+                            LocalDate endDate,
+                            OutputStream outputStream) throws IOException;
+}
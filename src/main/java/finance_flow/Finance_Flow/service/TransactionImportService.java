@@ -0,0 +1,11 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.dto.response.TransactionImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface TransactionImportService {
+
+    TransactionImportResponse importCsv(InputStream inputStream) throws IOException;
+}
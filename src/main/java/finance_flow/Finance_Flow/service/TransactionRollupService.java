@@ -0,0 +1,22 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.model.Transaction;
+
+import java.util.Collection;
+
+public interface TransactionRollupService {
+
+    void recordCreated(Transaction transaction);
+
+    void recordDeleted(Transaction transaction);
+
+    void recordUpdated(Transaction previous, Transaction current);
+
+    void recordBatch(Collection<Transaction> removed, Collection<Transaction> added);
+
+    void recordCategoryDeleted(Long userId, Long categoryId);
+
+    int rebuildForUser(Long userId);
+
+    int rebuildAll();
+}
@@ -0,0 +1,15 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.dto.response.CursorPageResponse;
+import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+
+import java.time.LocalDate;
+
+public interface TransactionSearchService {
+
+    CursorPageResponse<TransactionResponse> searchByDescription(String query,
+                                                                String cursor,
+                                                                int size,
+                                                                LocalDate startDate,
+                                                                LocalDate endDate);
+}
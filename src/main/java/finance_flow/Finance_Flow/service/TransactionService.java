@@ -1,6 +1,8 @@
 package finance_flow.Finance_Flow.service;
 
 import finance_flow.Finance_Flow.dto.request.TransactionRequest;
+import finance_flow.Finance_Flow.dto.request.TransactionSearchRequest;
+import finance_flow.Finance_Flow.dto.response.CursorPageResponse;
 import finance_flow.Finance_Flow.dto.response.TransactionResponse;
 import finance_flow.Finance_Flow.model.enums.TransactionType;
 import org.springframework.data.domain.Page;
@@ -22,13 +24,22 @@ public interface TransactionService {
 
     Page<TransactionResponse> getAllTransactions(Pageable pageable);
 
+    Page<TransactionResponse> searchTransactions(TransactionSearchRequest request, Pageable pageable);
+
+    CursorPageResponse<TransactionResponse> getTransactionsByCursor(String cursor,
+                                                                    int size,
+                                                                    Long categoryId,
+                                                                    TransactionType type,
+                                                                    LocalDate startDate,
+                                                                    LocalDate endDate);
+
     List<TransactionResponse> getRecentTransactions(int limit);
 
-    List<TransactionResponse> getTransactionsByType(TransactionType type);
+    Page<TransactionResponse> getTransactionsByType(TransactionType type, Pageable pageable);
 
-    List<TransactionResponse> getTransactionsByDateRange(LocalDate startDate, LocalDate endDate);
+    Page<TransactionResponse> getTransactionsByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable);
 
-    List<TransactionResponse> getTransactionsByCategory(Long categoryId);
+    Page<TransactionResponse> getTransactionsByCategory(Long categoryId, Pageable pageable);
 
     BigDecimal getTotalByTypeAndDateRange(TransactionType type, LocalDate startDate, LocalDate endDate);
 }
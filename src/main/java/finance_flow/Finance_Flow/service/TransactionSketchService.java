@@ -0,0 +1,22 @@
+package finance_flow.Finance_Flow.service;
+
+import finance_flow.Finance_Flow.model.Transaction;
+
+import java.util.Collection;
+
+public interface TransactionSketchService {
+
+    void recordCreated(Transaction transaction);
+
+    void recordDeleted(Transaction transaction);
+
+    void recordUpdated(Transaction previous, Transaction current);
+
+    void rebuildCells(Collection<Transaction> transactions);
+
+    void recordCategoryDeleted(Long userId);
+
+    int rebuildForUser(Long userId);
+
+    int rebuildAll();
+}
@@ -0,0 +1,31 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import com.tdunning.math.stats.MergingDigest;
+
+import java.nio.ByteBuffer;
+
+public final class AmountSketches {
+
+    public static final double COMPRESSION = 200;
+
+    private AmountSketches() {
+    }
+
+    public static MergingDigest empty() {
+        return new MergingDigest(COMPRESSION);
+    }
+
+    public static MergingDigest fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return empty();
+        }
+        return MergingDigest.fromBytes(ByteBuffer.wrap(bytes));
+    }
+
+    public static byte[] toBytes(MergingDigest digest) {
+        digest.compress();
+        ByteBuffer buffer = ByteBuffer.allocate(digest.smallByteSize());
+        digest.asSmallBytes(buffer);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,168 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import finance_flow.Finance_Flow.model.enums.PeriodGranularity;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.model.PayeeSummary;
+import finance_flow.Finance_Flow.repository.AccountBalanceRepository;
+import finance_flow.Finance_Flow.repository.BudgetRepository;
+import finance_flow.Finance_Flow.repository.PayeeSummaryRepository;
+import finance_flow.Finance_Flow.repository.TransactionAmountSketchRepository;
+import finance_flow.Finance_Flow.repository.TransactionMonthlyRollupRepository;
+import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.projection.BudgetSpendView;
+import finance_flow.Finance_Flow.repository.projection.CategorySpendView;
+import finance_flow.Finance_Flow.repository.projection.PeriodTotalsView;
+import finance_flow.Finance_Flow.repository.projection.TimeSeriesBucketView;
+import finance_flow.Finance_Flow.repository.projection.TransactionSummaryView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Resolves the aggregate figures behind the analytics dashboard with as few
+ * round trips as possible. Every summary figure comes from a single
+ * conditional-aggregation statement over the user's transactions, and
+ * month-aligned ranges are answered from the monthly rollup table instead of
+ * raw transaction rows. The lifetime balance is read from the balance ledger.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalyticsAggregateEngine {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final TransactionRepository transactionRepository;
+    private final BudgetRepository budgetRepository;
+    private final TransactionMonthlyRollupRepository rollupRepository;
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final TransactionAmountSketchRepository sketchRepository;
+    private final PayeeSummaryRepository payeeSummaryRepository;
+
+    public SummaryAggregates summarize(Long userId,
+                                       LocalDate startDate,
+                                       LocalDate endDate,
+                                       LocalDate prevStartDate,
+                                       LocalDate prevEndDate) {
+        TransactionSummaryView view = transactionRepository.summarizeByUser(
+                userId, startDate, endDate, prevStartDate, prevEndDate);
+
+        return SummaryAggregates.builder()
+                .incomeSum(orZero(view.getIncomeSum()))
+                .incomeCount(orZero(view.getIncomeCount()))
+                .expenseSum(orZero(view.getExpenseSum()))
+                .expenseCount(orZero(view.getExpenseCount()))
+                .previousIncomeSum(orZero(view.getPreviousIncomeSum()))
+                .previousExpenseSum(orZero(view.getPreviousExpenseSum()))
+                .lifetimeBalance(accountBalanceRepository.findBalanceByUserId(userId).orElse(BigDecimal.ZERO))
+                .build();
+    }
+
+    public List<CategorySpendView> categorySpend(Long userId,
+                                                 TransactionType type,
+                                                 LocalDate startDate,
+                                                 LocalDate endDate) {
+        if (isMonthAligned(startDate, endDate)) {
+            return rollupRepository.findCategorySpend(userId, type, startDate, endDate.withDayOfMonth(1));
+        }
+        return transactionRepository.findCategorySpend(userId, type, startDate, endDate);
+    }
+
+    public List<MonthlyTypeTotal> monthlyTotals(Long userId, LocalDate startDate, LocalDate endDate) {
+        if (isMonthAligned(startDate, endDate)) {
+            return rollupRepository.getMonthlyTrends(userId, startDate, endDate.withDayOfMonth(1)).stream()
+                    .map(row -> new MonthlyTypeTotal(
+                            ((LocalDate) row[0]).format(MONTH_FORMAT),
+                            (TransactionType) row[1],
+                            (BigDecimal) row[2]))
+                    .toList();
+        }
+        return transactionRepository.getMonthlyTrends(userId, startDate, endDate).stream()
+                .map(row -> new MonthlyTypeTotal(
+                        (String) row[0],
+                        (TransactionType) row[1],
+                        (BigDecimal) row[2]))
+                .toList();
+    }
+
+    /**
+     * Spend so far for every budget of the month together with the history
+     * needed for {@link BudgetProjection}, in one statement regardless of the
+     * number of budgets.
+     */
+    public List<BudgetSpendView> budgetSpend(Long userId, LocalDate month, LocalDate today) {
+        YearMonth budgetMonth = YearMonth.from(month);
+        return budgetRepository.findBudgetSpendForMonth(
+                userId,
+                month,
+                budgetMonth.atDay(1),
+                budgetMonth.atEndOfMonth(),
+                budgetMonth.minusMonths(BudgetProjection.HISTORY_MONTHS).atDay(1),
+                BudgetProjection.elapsedDays(month, today));
+    }
+
+    /**
+     * Income and expense totals for the {@code periods} most recent periods,
+     * each paired with the preceding period's totals. One extra leading
+     * period is generated so the first returned row also has a predecessor.
+     */
+    public List<PeriodTotalsView> periodTotals(Long userId,
+                                               PeriodGranularity granularity,
+                                               int periods,
+                                               LocalDate today) {
+        LocalDate lastPeriod = granularity.truncate(today);
+        LocalDate displayStart = granularity.plus(lastPeriod, 1L - periods);
+        LocalDate firstPeriod = granularity.plus(displayStart, -1);
+
+        return transactionRepository.comparePeriods(
+                userId,
+                granularity.getTruncUnit(),
+                granularity.getInterval(),
+                firstPeriod,
+                displayStart,
+                lastPeriod,
+                granularity.plus(lastPeriod, 1));
+    }
+
+    public List<TimeSeriesBucketView> timeSeries(Long userId,
+                                                 PeriodGranularity granularity,
+                                                 LocalDate startDate,
+                                                 LocalDate endDate) {
+        return transactionRepository.getTimeSeries(
+                userId,
+                granularity.getTruncUnit(),
+                granularity.getInterval(),
+                granularity.truncate(startDate),
+                granularity.truncate(endDate),
+                startDate,
+                endDate);
+    }
+
+    public List<Object[]> amountSketches(Long userId, LocalDate startDate, LocalDate endDate) {
+        return sketchRepository.findWithCategoryName(
+                userId, startDate.withDayOfMonth(1), endDate.withDayOfMonth(1));
+    }
+
+    public List<PayeeSummary> payeeSummaries(Long userId, LocalDate startDate, LocalDate endDate) {
+        return payeeSummaryRepository.findByUserAndMonthRange(
+                userId, startDate.withDayOfMonth(1), endDate.withDayOfMonth(1));
+    }
+
+    public static boolean isMonthAligned(LocalDate startDate, LocalDate endDate) {
+        return startDate.getDayOfMonth() == 1
+                && endDate.equals(YearMonth.from(endDate).atEndOfMonth())
+                && !startDate.isAfter(endDate);
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
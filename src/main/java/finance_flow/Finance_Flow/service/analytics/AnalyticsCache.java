@@ -0,0 +1,119 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import finance_flow.Finance_Flow.model.enums.AnalyticsSection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache for computed analytics sections. Entries are keyed
+ * by the user's current version stamp, so a write only has to bump the stamp
+ * to make every cached section of that user unreachable; stale entries then
+ * age out through the size and TTL limits. The stamps are bounded the same
+ * way. A user whose stamp was evicted gets a fresh one from the global
+ * sequence, which never matches an existing entry, so eviction can only
+ * cost hits, never serve stale sections.
+ */
+@Component
+@Slf4j
+public class AnalyticsCache {
+
+    private final Cache<Key, Object> cache;
+    private final Cache<Long, Long> versions;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AnalyticsCache(
+            @Value("${app.analytics.cache.max-size}") long maxSize,
+            @Value("${app.analytics.cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.eventPublisher = eventPublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "analytics");
+    }
+
+    /**
+     * Returns the cached section or computes and stores it. The loader runs
+     * outside of the cache's internal locks, because it issues database
+     * queries and may itself read other cached sections.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId,
+                     AnalyticsSection section,
+                     LocalDate startDate,
+                     LocalDate endDate,
+                     Supplier<T> loader) {
+        Key key = new Key(userId, currentVersion(userId), section, startDate, endDate);
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        T value = loader.get();
+        if (value != null) {
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Invalidates every cached section of the user. Inside a transaction the
+     * stamp is bumped after commit, so a concurrent reader cannot cache data
+     * computed before the write became visible under the new stamp.
+     */
+    public void invalidateUser(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion(userId);
+                }
+            });
+            return;
+        }
+        bumpVersion(userId);
+    }
+
+    private long currentVersion(Long userId) {
+        return versions.get(userId, ignored -> versionSequence.incrementAndGet());
+    }
+
+    private void bumpVersion(Long userId) {
+        long next = versionSequence.incrementAndGet();
+        versions.put(userId, next);
+        log.debug("Invalidated analytics cache for user {} (version {})", userId, next);
+        eventPublisher.publishEvent(new AnalyticsInvalidatedEvent(userId));
+    }
+
+    private record Key(
+            Long userId,
+            long version,
+            AnalyticsSection section,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+
+    }
+}
@@ -0,0 +1,9 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+/**
+ * Published once a user's cached analytics have been invalidated, i.e. after
+ * the write that caused it has committed.
+ */
+public record AnalyticsInvalidatedEvent(Long userId) {
+
+}
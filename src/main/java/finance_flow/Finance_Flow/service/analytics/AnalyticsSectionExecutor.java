@@ -0,0 +1,129 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import finance_flow.Finance_Flow.exception.ServiceUnavailableException;
+import finance_flow.Finance_Flow.model.enums.AnalyticsSection;
+import finance_flow.Finance_Flow.util.QueryCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent dashboard sections either one after another in a
+ * single read-only transaction, or concurrently on a bounded executor with
+ * one read-only transaction per section. The caller's security context and
+ * statement counter are propagated to the worker threads. The transactions
+ * carry the execution timeout as a statement timeout, so a section abandoned
+ * after a timeout releases its connection instead of running on.
+ */
+@Component
+@Slf4j
+public class AnalyticsSectionExecutor implements DisposableBean {
+
+    public enum Mode {
+        SEQUENTIAL,
+        PARALLEL
+    }
+
+    private final Mode mode;
+    private final Duration timeout;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolTaskExecutor threadPool;
+    private final Executor executor;
+
+    public AnalyticsSectionExecutor(
+            @Value("${app.analytics.execution.mode}") Mode mode,
+            @Value("${app.analytics.execution.max-concurrency}") int maxConcurrency,
+            @Value("${app.analytics.execution.timeout}") Duration timeout,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.mode = mode;
+        this.timeout = timeout;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, timeout.toSeconds()));
+
+        if (Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor("analytics-");
+            virtualThreads.setVirtualThreads(true);
+            virtualThreads.setConcurrencyLimit(maxConcurrency);
+            this.threadPool = null;
+            this.executor = new DelegatingSecurityContextExecutor(virtualThreads);
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setThreadNamePrefix("analytics-");
+            pool.setCorePoolSize(maxConcurrency);
+            pool.setMaxPoolSize(maxConcurrency);
+            pool.setQueueCapacity(maxConcurrency * 16);
+            pool.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+            pool.initialize();
+            this.threadPool = pool;
+            this.executor = new DelegatingSecurityContextExecutor(pool);
+        }
+    }
+
+    public Map<AnalyticsSection, Object> execute(Map<AnalyticsSection, Supplier<?>> sections) {
+        if (mode == Mode.SEQUENTIAL || sections.size() < 2) {
+            return readOnlyTransaction.execute(status -> {
+                Map<AnalyticsSection, Object> results = new EnumMap<>(AnalyticsSection.class);
+                sections.forEach((section, supplier) -> results.put(section, supplier.get()));
+                return results;
+            });
+        }
+
+        AtomicInteger statementCounter = QueryCounter.handle();
+        Map<AnalyticsSection, CompletableFuture<Object>> futures = new EnumMap<>(AnalyticsSection.class);
+        sections.forEach((section, supplier) -> futures.put(section, CompletableFuture.supplyAsync(
+                () -> runInWorker(supplier, statementCounter), executor)));
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            futures.values().forEach(future -> future.cancel(true));
+            log.warn("Analytics sections {} did not finish within {}", sections.keySet(), timeout);
+            throw new ServiceUnavailableException("Analytics computation timed out", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            futures.values().forEach(future -> future.cancel(true));
+            throw new ServiceUnavailableException("Analytics computation interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+
+        Map<AnalyticsSection, Object> results = new EnumMap<>(AnalyticsSection.class);
+        futures.forEach((section, future) -> results.put(section, future.join()));
+        return results;
+    }
+
+    private Object runInWorker(Supplier<?> supplier, AtomicInteger statementCounter) {
+        QueryCounter.bind(statementCounter);
+        try {
+            return readOnlyTransaction.execute(status -> supplier.get());
+        } finally {
+            QueryCounter.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (threadPool != null) {
+            threadPool.shutdown();
+        }
+    }
+}
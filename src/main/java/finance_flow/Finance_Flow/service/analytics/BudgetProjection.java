@@ -0,0 +1,82 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import finance_flow.Finance_Flow.repository.projection.BudgetSpendView;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Projected month-end spend of a budget. While the month is running, the
+ * projection averages two estimates: the current month's daily run rate
+ * extended to month end, and spend so far plus what the same category
+ * typically spent in the remaining days of the previous
+ * {@link #HISTORY_MONTHS} months. The typical amount is averaged over the
+ * months since the user's first transaction in that window, so a short
+ * history is not diluted and occasional spend is not inflated.
+ */
+public record BudgetProjection(BigDecimal projectedSpend, String projectedStatus) {
+
+    public static final int HISTORY_MONTHS = 6;
+
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    public static BudgetProjection of(BudgetSpendView view, LocalDate month, LocalDate today) {
+        BigDecimal projected = project(view, month, today).setScale(2, RoundingMode.HALF_UP);
+        return new BudgetProjection(projected, status(projected, view.getLimitAmount()));
+    }
+
+    public static int elapsedDays(LocalDate month, LocalDate today) {
+        YearMonth budgetMonth = YearMonth.from(month);
+        YearMonth currentMonth = YearMonth.from(today);
+        if (budgetMonth.isBefore(currentMonth)) {
+            return budgetMonth.lengthOfMonth();
+        }
+        return budgetMonth.equals(currentMonth) ? today.getDayOfMonth() : 0;
+    }
+
+    public static String status(BigDecimal spend, BigDecimal limit) {
+        BigDecimal utilization = limit.compareTo(BigDecimal.ZERO) > 0
+                ? spend.divide(limit, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
+                : BigDecimal.ZERO;
+        return statusForUtilization(utilization);
+    }
+
+    public static String statusForUtilization(BigDecimal utilizationRate) {
+        if (utilizationRate.compareTo(BigDecimal.valueOf(100)) >= 0) {
+            return "EXCEEDED";
+        } else if (utilizationRate.compareTo(BigDecimal.valueOf(80)) >= 0) {
+            return "WARNING";
+        } else {
+            return "SAFE";
+        }
+    }
+
+    private static BigDecimal project(BudgetSpendView view, LocalDate month, LocalDate today) {
+        BigDecimal spent = orZero(view.getSpent());
+        int daysInMonth = YearMonth.from(month).lengthOfMonth();
+        int elapsed = elapsedDays(month, today);
+        if (elapsed >= daysInMonth) {
+            return spent;
+        }
+
+        boolean hasHistory = orZero(view.getHistoryTotal()).signum() > 0;
+        long historyMonths = view.getHistoryMonths() != null
+                ? Math.min(HISTORY_MONTHS, Math.max(1, view.getHistoryMonths()))
+                : HISTORY_MONTHS;
+        BigDecimal profile = spent.add(orZero(view.getHistoryRemaining())
+                .divide(BigDecimal.valueOf(historyMonths), 4, RoundingMode.HALF_UP));
+        if (elapsed == 0) {
+            return profile;
+        }
+
+        BigDecimal runRate = spent.multiply(BigDecimal.valueOf(daysInMonth))
+                .divide(BigDecimal.valueOf(elapsed), 4, RoundingMode.HALF_UP);
+        return hasHistory ? runRate.add(profile).divide(TWO, 4, RoundingMode.HALF_UP) : runRate;
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,166 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import finance_flow.Finance_Flow.model.User;
+import finance_flow.Finance_Flow.repository.UserRepository;
+import finance_flow.Finance_Flow.security.UserPrincipal;
+import finance_flow.Finance_Flow.service.AnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Warms the analytics cache with the default current-month dashboard so the
+ * first request after a login or a burst of writes is a cache read. Each user
+ * has at most one pending run; further writes only push its due time back by
+ * the debounce delay.
+ */
+@Component
+@Slf4j
+public class DashboardPrecomputer implements DisposableBean {
+
+    private final boolean enabled;
+    private final Duration debounce;
+    private final int maxPending;
+    private final AnalyticsService analyticsService;
+    private final UserRepository userRepository;
+    private final TaskScheduler scheduler;
+    private final Clock clock;
+    private final Map<Long, Instant> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DashboardPrecomputer(
+            @Value("${app.analytics.precompute.enabled}") boolean enabled,
+            @Value("${app.analytics.precompute.debounce}") Duration debounce,
+            @Value("${app.analytics.precompute.threads}") int threads,
+            @Value("${app.analytics.precompute.max-pending}") int maxPending,
+            AnalyticsService analyticsService,
+            UserRepository userRepository
+    ) {
+        this(enabled, debounce, maxPending, analyticsService, userRepository,
+                createScheduler(threads), Clock.systemUTC());
+    }
+
+    DashboardPrecomputer(boolean enabled,
+                         Duration debounce,
+                         int maxPending,
+                         AnalyticsService analyticsService,
+                         UserRepository userRepository,
+                         TaskScheduler scheduler,
+                         Clock clock) {
+        this.enabled = enabled;
+        this.debounce = debounce;
+        this.maxPending = maxPending;
+        this.analyticsService = analyticsService;
+        this.userRepository = userRepository;
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    private static ThreadPoolTaskScheduler createScheduler(int threads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("dashboard-precompute-");
+        scheduler.setPoolSize(threads);
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    public void scheduleAfterLogin(Long userId) {
+        schedule(userId, Duration.ZERO);
+    }
+
+    @EventListener
+    public void onAnalyticsInvalidated(AnalyticsInvalidatedEvent event) {
+        schedule(event.userId(), debounce);
+    }
+
+    private void schedule(Long userId, Duration delay) {
+        if (!enabled) {
+            return;
+        }
+
+        Instant due = clock.instant().plus(delay);
+        boolean[] created = {false};
+        pending.compute(userId, (ignored, existing) -> {
+            if (existing != null) {
+                return existing.isAfter(due) ? existing : due;
+            }
+            if (pending.size() >= maxPending) {
+                return null;
+            }
+            created[0] = true;
+            return due;
+        });
+
+        if (created[0]) {
+            scheduler.schedule(() -> runWhenDue(userId), due);
+        } else if (!pending.containsKey(userId)) {
+            log.debug("Dashboard precompute queue full, skipping user {}", userId);
+        }
+    }
+
+    private void runWhenDue(Long userId) {
+        Instant now = clock.instant();
+        Instant[] postponed = {null};
+        pending.computeIfPresent(userId, (ignored, due) -> {
+            if (due.isAfter(now)) {
+                postponed[0] = due;
+                return due;
+            }
+            return null;
+        });
+
+        if (postponed[0] != null) {
+            scheduler.schedule(() -> runWhenDue(userId), postponed[0]);
+            return;
+        }
+
+        try {
+            precompute(userId);
+        } catch (RuntimeException ex) {
+            log.warn("Dashboard precompute failed for user {}", userId, ex);
+        }
+    }
+
+    private void precompute(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null || !Boolean.TRUE.equals(user.getIsActive())) {
+            return;
+        }
+
+        UserPrincipal principal = UserPrincipal.create(user);
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        try {
+            YearMonth currentMonth = YearMonth.now(clock);
+            analyticsService.getAnalytics(currentMonth.atDay(1), currentMonth.atEndOfMonth());
+            log.debug("Precomputed dashboard for user {}", userId);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler instanceof ThreadPoolTaskScheduler pool) {
+            pool.shutdown();
+        }
+    }
+}
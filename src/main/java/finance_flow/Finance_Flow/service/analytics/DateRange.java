@@ -0,0 +1,24 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+
+public record DateRange(LocalDate startDate, LocalDate endDate) {
+
+    /**
+     * The equally long range immediately before this one. Month-aligned
+     * ranges step back by whole months so that, for example, February is
+     * compared with January rather than with the last 28 days of January.
+     */
+    public DateRange previous() {
+        if (AnalyticsAggregateEngine.isMonthAligned(startDate, endDate)) {
+            long months = ChronoUnit.MONTHS.between(YearMonth.from(startDate), YearMonth.from(endDate)) + 1;
+            YearMonth firstMonth = YearMonth.from(startDate).minusMonths(months);
+            return new DateRange(firstMonth.atDay(1), startDate.minusDays(1));
+        }
+
+        LocalDate previousEnd = startDate.minusDays(1);
+        return new DateRange(previousEnd.minusDays(ChronoUnit.DAYS.between(startDate, endDate)), previousEnd);
+    }
+}
@@ -0,0 +1,13 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+public record MonthlyTypeTotal(
+        String month,
+        TransactionType type,
+        BigDecimal amount
+) {
+
+}
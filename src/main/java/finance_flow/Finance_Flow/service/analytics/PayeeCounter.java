@@ -0,0 +1,10 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import java.math.BigDecimal;
+
+/**
+ * One Space-Saving counter. {@code spend} may overestimate the payee's true
+ * spend by at most {@code error}.
+ */
+public record PayeeCounter(String payee, BigDecimal spend, long count, BigDecimal error) {
+}
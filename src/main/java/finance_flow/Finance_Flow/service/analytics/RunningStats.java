@@ -0,0 +1,43 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+/**
+ * Welford's online mean/variance accumulator. {@code m2} is the running sum
+ * of squared deviations from the mean.
+ */
+public record RunningStats(long count, double mean, double m2) {
+
+    public static final RunningStats EMPTY = new RunningStats(0, 0.0, 0.0);
+
+    public RunningStats add(double value) {
+        long newCount = count + 1;
+        double delta = value - mean;
+        double newMean = mean + delta / newCount;
+        return new RunningStats(newCount, newMean, m2 + delta * (value - newMean));
+    }
+
+    /**
+     * Reverses {@link #add(double)} for a value that was added earlier.
+     */
+    public RunningStats remove(double value) {
+        if (count <= 1) {
+            return EMPTY;
+        }
+        long newCount = count - 1;
+        double newMean = (mean * count - value) / newCount;
+        double newM2 = m2 - (value - mean) * (value - newMean);
+        return new RunningStats(newCount, newMean, Math.max(0.0, newM2));
+    }
+
+    public double variance() {
+        return count > 1 ? m2 / (count - 1) : 0.0;
+    }
+
+    public double standardDeviation() {
+        return Math.sqrt(variance());
+    }
+
+    public double zScore(double value) {
+        double deviation = standardDeviation();
+        return deviation > 0 ? (value - mean) / deviation : 0.0;
+    }
+}
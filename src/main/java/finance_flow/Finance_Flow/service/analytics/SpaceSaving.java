@@ -0,0 +1,110 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Weighted Space-Saving heavy-hitters summary of expense spend per payee,
+ * bounded at {@code capacity} counters. Summaries are mergeable, so monthly
+ * summaries can be combined for any range of months.
+ */
+public final class SpaceSaving {
+
+    public static final int CAPACITY = 200;
+
+    private static final Comparator<PayeeCounter> BY_SPEND_DESC =
+            Comparator.comparing(PayeeCounter::spend).reversed().thenComparing(PayeeCounter::payee);
+
+    private final int capacity;
+    private final Map<String, PayeeCounter> counters = new HashMap<>();
+
+    public SpaceSaving(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public static SpaceSaving of(List<PayeeCounter> entries) {
+        SpaceSaving summary = new SpaceSaving(CAPACITY);
+        if (entries != null) {
+            entries.forEach(counter -> summary.counters.put(counter.payee(), counter));
+        }
+        return summary;
+    }
+
+    public void offer(String payee, BigDecimal amount) {
+        PayeeCounter existing = counters.get(payee);
+        if (existing != null) {
+            counters.put(payee, new PayeeCounter(
+                    payee, existing.spend().add(amount), existing.count() + 1, existing.error()));
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(payee, new PayeeCounter(payee, amount, 1, BigDecimal.ZERO));
+            return;
+        }
+
+        PayeeCounter evicted = Collections.min(counters.values(), Comparator.comparing(PayeeCounter::spend));
+        counters.remove(evicted.payee());
+        counters.put(payee, new PayeeCounter(
+                payee, evicted.spend().add(amount), evicted.count() + 1, evicted.spend()));
+    }
+
+    /**
+     * Combines two summaries. A payee missing from a full summary may still
+     * have spent up to that summary's smallest counter, which is added to
+     * both its spend and its error bound.
+     */
+    public void merge(SpaceSaving other) {
+        BigDecimal thisFloor = floor();
+        BigDecimal otherFloor = other.floor();
+
+        Set<String> payees = new HashSet<>(counters.keySet());
+        payees.addAll(other.counters.keySet());
+
+        Map<String, PayeeCounter> merged = new HashMap<>();
+        for (String payee : payees) {
+            PayeeCounter mine = counters.get(payee);
+            PayeeCounter theirs = other.counters.get(payee);
+            merged.put(payee, new PayeeCounter(
+                    payee,
+                    spendOr(mine, thisFloor).add(spendOr(theirs, otherFloor)),
+                    (mine != null ? mine.count() : 0) + (theirs != null ? theirs.count() : 0),
+                    errorOr(mine, thisFloor).add(errorOr(theirs, otherFloor))));
+        }
+
+        counters.clear();
+        merged.values().stream()
+                .sorted(BY_SPEND_DESC)
+                .limit(capacity)
+                .forEach(counter -> counters.put(counter.payee(), counter));
+    }
+
+    public List<PayeeCounter> top(int limit) {
+        return counters.values().stream()
+                .sorted(BY_SPEND_DESC)
+                .limit(limit)
+                .toList();
+    }
+
+    public List<PayeeCounter> entries() {
+        return top(capacity);
+    }
+
+    private BigDecimal floor() {
+        if (counters.size() < capacity) {
+            return BigDecimal.ZERO;
+        }
+        return counters.values().stream()
+                .map(PayeeCounter::spend)
+                .min(Comparator.naturalOrder())
+                .orElse(BigDecimal.ZERO);
+    }
+
+    private static BigDecimal spendOr(PayeeCounter counter, BigDecimal floor) {
+        return counter != null ? counter.spend() : floor;
+    }
+
+    private static BigDecimal errorOr(PayeeCounter counter, BigDecimal floor) {
+        return counter != null ? counter.error() : floor;
+    }
+}
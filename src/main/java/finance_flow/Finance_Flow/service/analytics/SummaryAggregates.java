@@ -0,0 +1,33 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+@Builder
+public record SummaryAggregates(
+        BigDecimal incomeSum,
+        long incomeCount,
+        BigDecimal expenseSum,
+        long expenseCount,
+        BigDecimal previousIncomeSum,
+        BigDecimal previousExpenseSum,
+        BigDecimal lifetimeBalance
+) {
+
+    public BigDecimal incomeAverage() {
+        return average(incomeSum, incomeCount);
+    }
+
+    public BigDecimal expenseAverage() {
+        return average(expenseSum, expenseCount);
+    }
+
+    private static BigDecimal average(BigDecimal sum, long count) {
+        if (count == 0) {
+            return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        }
+        return sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+}
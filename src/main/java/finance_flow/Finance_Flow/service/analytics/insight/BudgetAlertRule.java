@@ -0,0 +1,48 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Order(20)
+public class BudgetAlertRule implements InsightRule {
+
+    @Override
+    public Set<InsightAggregate> requires() {
+        return Set.of(InsightAggregate.BUDGET_OVERVIEW);
+    }
+
+    @Override
+    public List<AnalyticsResponse.SpendingInsight> evaluate(InsightContext context) {
+        return context.budgetOverview().budgetStatuses().stream()
+                .filter(status -> "EXCEEDED".equals(status.status()) ||
+                        "WARNING".equals(status.status()))
+                .map(status -> {
+                    String severity = "EXCEEDED".equals(status.status())
+                            ? "CRITICAL" : "WARNING";
+                    String message = "EXCEEDED".equals(status.status())
+                            ? String.format("Budget exceeded for: %s", status.categoryName())
+                            : String.format("Warning! Close to budget: %s",
+                            status.categoryName());
+
+                    Map<String, Object> metadata = new HashMap<>();
+                    metadata.put("budgetId", status.budgetId());
+                    metadata.put("categoryId", status.categoryId());
+                    metadata.put("utilizationRate", status.utilizationRate());
+
+                    return AnalyticsResponse.SpendingInsight.builder()
+                            .type("BUDGET_ALERT")
+                            .message(message)
+                            .severity(severity)
+                            .metadata(metadata)
+                            .build();
+                })
+                .toList();
+    }
+}
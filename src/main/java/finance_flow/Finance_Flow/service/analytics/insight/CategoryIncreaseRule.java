@@ -0,0 +1,64 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@Order(30)
+public class CategoryIncreaseRule implements InsightRule {
+
+    private static final BigDecimal THRESHOLD_PERCENTAGE = BigDecimal.valueOf(30);
+
+    @Override
+    public Set<InsightAggregate> requires() {
+        return Set.of(InsightAggregate.CATEGORY_BREAKDOWNS, InsightAggregate.PREVIOUS_CATEGORY_BREAKDOWNS);
+    }
+
+    @Override
+    public List<AnalyticsResponse.SpendingInsight> evaluate(InsightContext context) {
+        Map<Long, BigDecimal> previousAmounts = context.previousCategoryBreakdowns().stream()
+                .collect(Collectors.toMap(AnalyticsResponse.CategoryBreakdown::categoryId,
+                        AnalyticsResponse.CategoryBreakdown::amount));
+
+        return context.categoryBreakdowns().stream()
+                .filter(category -> previousAmounts.containsKey(category.categoryId()))
+                .map(category -> {
+                    BigDecimal previous = previousAmounts.get(category.categoryId());
+                    if (previous.signum() <= 0) {
+                        return null;
+                    }
+
+                    BigDecimal increase = category.amount().subtract(previous)
+                            .divide(previous, 4, RoundingMode.HALF_UP)
+                            .multiply(BigDecimal.valueOf(100))
+                            .setScale(2, RoundingMode.HALF_UP);
+                    if (increase.compareTo(THRESHOLD_PERCENTAGE) < 0) {
+                        return null;
+                    }
+
+                    return AnalyticsResponse.SpendingInsight.builder()
+                            .type("CATEGORY_INCREASE")
+                            .message(String.format("Spending on %s is up %s%% vs the previous period",
+                                    category.categoryName(), increase.toPlainString()))
+                            .severity("WARNING")
+                            .metadata(Map.of(
+                                    "categoryId", category.categoryId(),
+                                    "amount", category.amount(),
+                                    "previousAmount", previous,
+                                    "increasePercentage", increase
+                            ))
+                            .build();
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,51 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Order(40)
+public class IncomeDropRule implements InsightRule {
+
+    private static final BigDecimal THRESHOLD_PERCENTAGE = BigDecimal.valueOf(20);
+
+    @Override
+    public Set<InsightAggregate> requires() {
+        return Set.of(InsightAggregate.SUMMARY);
+    }
+
+    @Override
+    public List<AnalyticsResponse.SpendingInsight> evaluate(InsightContext context) {
+        AnalyticsResponse.FinancialSummary summary = context.summary();
+        BigDecimal previous = summary.previousPeriodIncome();
+        if (previous == null || previous.signum() <= 0) {
+            return List.of();
+        }
+
+        BigDecimal drop = previous.subtract(summary.totalIncome())
+                .divide(previous, 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(2, RoundingMode.HALF_UP);
+        if (drop.compareTo(THRESHOLD_PERCENTAGE) < 0) {
+            return List.of();
+        }
+
+        return List.of(AnalyticsResponse.SpendingInsight.builder()
+                .type("INCOME_DROP")
+                .message(String.format("Income dropped %s%% vs the previous period", drop.toPlainString()))
+                .severity("WARNING")
+                .metadata(Map.of(
+                        "income", summary.totalIncome(),
+                        "previousIncome", previous,
+                        "dropPercentage", drop
+                ))
+                .build());
+    }
+}
@@ -0,0 +1,9 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+public enum InsightAggregate {
+    SUMMARY,
+    CATEGORY_BREAKDOWNS,
+    PREVIOUS_CATEGORY_BREAKDOWNS,
+    BUDGET_OVERVIEW,
+    SPENDING_ANOMALIES
+}
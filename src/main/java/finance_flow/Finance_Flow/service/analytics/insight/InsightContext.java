@@ -0,0 +1,75 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import finance_flow.Finance_Flow.model.SpendingAnomaly;
+import finance_flow.Finance_Flow.service.analytics.DateRange;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Aggregates available to insight rules for one evaluation. Values already
+ * computed for the dashboard can be seeded; anything else is loaded on first
+ * access and memoized.
+ */
+public class InsightContext {
+
+    @Getter
+    private final DateRange range;
+    private final Map<InsightAggregate, Supplier<?>> loaders = new EnumMap<>(InsightAggregate.class);
+    private final Map<InsightAggregate, Object> values = new EnumMap<>(InsightAggregate.class);
+
+    public InsightContext(DateRange range) {
+        this.range = range;
+    }
+
+    public InsightContext loader(InsightAggregate aggregate, Supplier<?> loader) {
+        loaders.put(aggregate, loader);
+        return this;
+    }
+
+    public InsightContext seed(InsightAggregate aggregate, Object value) {
+        if (value != null) {
+            values.put(aggregate, value);
+        }
+        return this;
+    }
+
+    public AnalyticsResponse.FinancialSummary summary() {
+        return get(InsightAggregate.SUMMARY);
+    }
+
+    public List<AnalyticsResponse.CategoryBreakdown> categoryBreakdowns() {
+        return get(InsightAggregate.CATEGORY_BREAKDOWNS);
+    }
+
+    public List<AnalyticsResponse.CategoryBreakdown> previousCategoryBreakdowns() {
+        return get(InsightAggregate.PREVIOUS_CATEGORY_BREAKDOWNS);
+    }
+
+    public AnalyticsResponse.BudgetOverview budgetOverview() {
+        return get(InsightAggregate.BUDGET_OVERVIEW);
+    }
+
+    public List<SpendingAnomaly> spendingAnomalies() {
+        return get(InsightAggregate.SPENDING_ANOMALIES);
+    }
+
+    void load(InsightAggregate aggregate) {
+        get(aggregate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(InsightAggregate aggregate) {
+        return (T) values.computeIfAbsent(aggregate, key -> {
+            Supplier<?> loader = loaders.get(key);
+            if (loader == null) {
+                throw new IllegalStateException("No loader registered for " + key);
+            }
+            return loader.get();
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class InsightEngine {
+
+    private final List<InsightRule> rules;
+    private final Set<InsightAggregate> required;
+
+    public InsightEngine(List<InsightRule> rules) {
+        this.rules = List.copyOf(rules);
+        this.required = EnumSet.noneOf(InsightAggregate.class);
+        rules.forEach(rule -> required.addAll(rule.requires()));
+    }
+
+    public Set<InsightAggregate> requiredAggregates() {
+        return EnumSet.copyOf(required);
+    }
+
+    public List<AnalyticsResponse.SpendingInsight> evaluate(InsightContext context) {
+        required.forEach(context::load);
+
+        List<AnalyticsResponse.SpendingInsight> insights = new ArrayList<>();
+        for (InsightRule rule : rules) {
+            insights.addAll(rule.evaluate(context));
+        }
+        return insights;
+    }
+}
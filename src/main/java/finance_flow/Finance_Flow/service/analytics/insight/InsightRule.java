@@ -0,0 +1,18 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A single spending insight. Rules only read from the {@link InsightContext};
+ * every aggregate they declare in {@link #requires()} is computed once per
+ * evaluation and shared with all other rules.
+ */
+public interface InsightRule {
+
+    Set<InsightAggregate> requires();
+
+    List<AnalyticsResponse.SpendingInsight> evaluate(InsightContext context);
+}
@@ -0,0 +1,51 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import finance_flow.Finance_Flow.model.SpendingAnomaly;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Order(50)
+public class SpendingAnomalyRule implements InsightRule {
+
+    @Override
+    public Set<InsightAggregate> requires() {
+        return Set.of(InsightAggregate.SPENDING_ANOMALIES);
+    }
+
+    @Override
+    public List<AnalyticsResponse.SpendingInsight> evaluate(InsightContext context) {
+        return context.spendingAnomalies().stream()
+                .map(this::toInsight)
+                .toList();
+    }
+
+    private AnalyticsResponse.SpendingInsight toInsight(SpendingAnomaly anomaly) {
+        String categoryName = anomaly.getCategoryName() != null ? anomaly.getCategoryName() : "Uncategorized";
+        String ratio = anomaly.getAmount()
+                .divide(anomaly.getTypicalAmount(), 1, RoundingMode.HALF_UP)
+                .toPlainString();
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("transactionId", anomaly.getTransactionId());
+        metadata.put("categoryId", anomaly.getCategoryId());
+        metadata.put("amount", anomaly.getAmount());
+        metadata.put("typicalAmount", anomaly.getTypicalAmount());
+        metadata.put("zScore", anomaly.getZScore());
+        metadata.put("transactionDate", anomaly.getTransactionDate());
+
+        return AnalyticsResponse.SpendingInsight.builder()
+                .type("SPENDING_ANOMALY")
+                .message(String.format("Unusual %s expense: %sx your typical amount", categoryName, ratio))
+                .severity("WARNING")
+                .metadata(metadata)
+                .build();
+    }
+}
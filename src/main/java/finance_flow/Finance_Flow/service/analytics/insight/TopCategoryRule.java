@@ -0,0 +1,39 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Order(10)
+public class TopCategoryRule implements InsightRule {
+
+    @Override
+    public Set<InsightAggregate> requires() {
+        return Set.of(InsightAggregate.CATEGORY_BREAKDOWNS);
+    }
+
+    @Override
+    public List<AnalyticsResponse.SpendingInsight> evaluate(InsightContext context) {
+        List<AnalyticsResponse.CategoryBreakdown> categories = context.categoryBreakdowns();
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        AnalyticsResponse.CategoryBreakdown topCategory = categories.get(0);
+        return List.of(AnalyticsResponse.SpendingInsight.builder()
+                .type("TOP_CATEGORY")
+                .severity("INFO")
+                .metadata(Map.of(
+                        "categoryId", topCategory.categoryId(),
+                        "amount", topCategory.amount(),
+                        "percentage", topCategory.percentage(),
+                        "categoryName", topCategory.categoryName()
+                ))
+                .build());
+    }
+}
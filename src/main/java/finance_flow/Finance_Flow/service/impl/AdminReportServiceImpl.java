@@ -0,0 +1,215 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import finance_flow.Finance_Flow.dto.response.AdminReportResponse;
+import finance_flow.Finance_Flow.exception.BadRequestException;
+import finance_flow.Finance_Flow.exception.ServiceUnavailableException;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.UserRepository;
+import finance_flow.Finance_Flow.repository.projection.MonthlyVolumeView;
+import finance_flow.Finance_Flow.service.AdminReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Cross-user monthly reporting. The user-id space is split into contiguous
+ * ranges that are aggregated concurrently, each on its own read-only
+ * connection, and the partial results are summed. Ranges are disjoint by
+ * user, so distinct user counts are additive as well. The slice transactions
+ * carry the report timeout as a statement timeout, since cancelling a running
+ * future does not stop its query.
+ */
+@Service
+@Slf4j
+public class AdminReportServiceImpl implements AdminReportService, DisposableBean {
+
+    private static final int MAX_REPORT_MONTHS = 120;
+
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolTaskExecutor executor;
+    private final int partitions;
+    private final Duration timeout;
+    private final Cache<ReportKey, AdminReportResponse> reports;
+    private final Clock clock;
+
+    @Autowired
+    public AdminReportServiceImpl(
+            @Value("${app.admin.reports.partitions}") int partitions,
+            @Value("${app.admin.reports.max-concurrency}") int maxConcurrency,
+            @Value("${app.admin.reports.timeout}") Duration timeout,
+            TransactionRepository transactionRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this(partitions, maxConcurrency, timeout, transactionRepository, userRepository, transactionManager,
+                Clock.systemDefaultZone());
+    }
+
+    AdminReportServiceImpl(int partitions,
+                           int maxConcurrency,
+                           Duration timeout,
+                           TransactionRepository transactionRepository,
+                           UserRepository userRepository,
+                           PlatformTransactionManager transactionManager,
+                           Clock clock) {
+        this.transactionRepository = transactionRepository;
+        this.userRepository = userRepository;
+        this.partitions = partitions;
+        this.timeout = timeout;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, timeout.toSeconds()));
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setThreadNamePrefix("admin-report-");
+        this.executor.setCorePoolSize(maxConcurrency);
+        this.executor.setMaxPoolSize(maxConcurrency);
+        this.executor.initialize();
+
+        this.reports = Caffeine.newBuilder()
+                .maximumSize(256)
+                .expireAfterWrite(Duration.ofDays(1))
+                .build();
+        this.clock = clock;
+    }
+
+    @Override
+    public AdminReportResponse getMonthlyReport(LocalDate startMonth, LocalDate endMonth) {
+        LocalDate start = startMonth.withDayOfMonth(1);
+        LocalDate end = endMonth.withDayOfMonth(1);
+        if (end.isBefore(start)) {
+            throw new BadRequestException("End month must not be before start month");
+        }
+        if (ChronoUnit.MONTHS.between(start, end) >= MAX_REPORT_MONTHS) {
+            throw new BadRequestException("Report range must not exceed " + MAX_REPORT_MONTHS + " months");
+        }
+
+        LocalDate reportingDay = LocalDate.now(clock);
+        return reports.get(new ReportKey(reportingDay, start, end),
+                key -> buildReport(reportingDay, start, end));
+    }
+
+    private AdminReportResponse buildReport(LocalDate reportingDay, LocalDate start, LocalDate end) {
+        LocalDate endDate = end.plusMonths(1).minusDays(1);
+
+        List<CompletableFuture<List<MonthlyVolumeView>>> futures = userIdRanges().stream()
+                .map(range -> CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status ->
+                        transactionRepository.getMonthlyVolumeForUserRange(
+                                range[0], range[1], start, endDate)), executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            futures.forEach(future -> future.cancel(true));
+            log.warn("Admin report {} - {} did not finish within {}", start, end, timeout);
+            throw new ServiceUnavailableException("Report computation timed out", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new ServiceUnavailableException("Report computation interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+
+        Map<String, MonthAccumulator> months = new TreeMap<>();
+        futures.forEach(future -> future.join().forEach(row ->
+                months.computeIfAbsent(row.getMonth(), ignored -> new MonthAccumulator()).add(row)));
+
+        log.info("Built admin report {} - {} from {} partitions", start, end, futures.size());
+
+        return AdminReportResponse.builder()
+                .reportingDay(reportingDay)
+                .startMonth(start)
+                .endMonth(end)
+                .months(months.entrySet().stream()
+                        .map(entry -> entry.getValue().toReport(entry.getKey()))
+                        .toList())
+                .build();
+    }
+
+    private List<long[]> userIdRanges() {
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return List.of();
+        }
+
+        long width = Math.max(1, (maxId - minId + partitions) / partitions);
+        List<long[]> ranges = new ArrayList<>();
+        for (long lower = minId; lower <= maxId; lower += width) {
+            ranges.add(new long[]{lower, Math.min(maxId, lower + width - 1)});
+        }
+        return ranges;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private record ReportKey(LocalDate reportingDay, LocalDate startMonth, LocalDate endMonth) {
+
+    }
+
+    private static final class MonthAccumulator {
+
+        private long activeUsers;
+        private long transactionCount;
+        private final Map<TransactionType, BigDecimal> amounts = new EnumMap<>(TransactionType.class);
+        private final Map<TransactionType, Long> counts = new EnumMap<>(TransactionType.class);
+
+        void add(MonthlyVolumeView row) {
+            if (row.getType() == null) {
+                activeUsers += row.getActiveUsers();
+                transactionCount += row.getTransactionCount();
+                return;
+            }
+
+            TransactionType type = TransactionType.valueOf(row.getType());
+            amounts.merge(type, row.getTotalAmount(), BigDecimal::add);
+            counts.merge(type, row.getTransactionCount(), Long::sum);
+        }
+
+        AdminReportResponse.MonthlyReport toReport(String month) {
+            return AdminReportResponse.MonthlyReport.builder()
+                    .month(month)
+                    .activeUsers(activeUsers)
+                    .transactionCount(transactionCount)
+                    .volumeByType(amounts.entrySet().stream()
+                            .map(entry -> AdminReportResponse.TypeVolume.builder()
+                                    .type(entry.getKey())
+                                    .amount(entry.getValue())
+                                    .transactionCount(counts.get(entry.getKey()))
+                                    .build())
+                            .toList())
+                    .build();
+        }
+    }
+}
@@ -1,17 +1,34 @@
 package finance_flow.Finance_Flow.service.impl;
 
+import com.tdunning.math.stats.MergingDigest;
 import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
-import finance_flow.Finance_Flow.model.Budget;
-import finance_flow.Finance_Flow.model.Category;
-import finance_flow.Finance_Flow.model.User;
+import finance_flow.Finance_Flow.exception.BadRequestException;
+import finance_flow.Finance_Flow.model.PayeeSummary;
+import finance_flow.Finance_Flow.model.TransactionAmountSketch;
+import finance_flow.Finance_Flow.model.enums.AnalyticsSection;
+import finance_flow.Finance_Flow.model.enums.PeriodGranularity;
 import finance_flow.Finance_Flow.model.enums.TransactionType;
-import finance_flow.Finance_Flow.repository.BudgetRepository;
-import finance_flow.Finance_Flow.repository.CategoryRepository;
-import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.projection.BudgetSpendView;
+import finance_flow.Finance_Flow.repository.projection.CategorySpendView;
+import finance_flow.Finance_Flow.repository.projection.TimeSeriesBucketView;
 import finance_flow.Finance_Flow.service.AnalyticsService;
+import finance_flow.Finance_Flow.service.SpendingAnomalyService;
+import finance_flow.Finance_Flow.service.analytics.AmountSketches;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsAggregateEngine;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsCache;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsSectionExecutor;
+import finance_flow.Finance_Flow.service.analytics.BudgetProjection;
+import finance_flow.Finance_Flow.service.analytics.DateRange;
+import finance_flow.Finance_Flow.service.analytics.MonthlyTypeTotal;
+import finance_flow.Finance_Flow.service.analytics.SpaceSaving;
+import finance_flow.Finance_Flow.service.analytics.SummaryAggregates;
+import finance_flow.Finance_Flow.service.analytics.insight.InsightAggregate;
+import finance_flow.Finance_Flow.service.analytics.insight.InsightContext;
+import finance_flow.Finance_Flow.service.analytics.insight.InsightEngine;
 import finance_flow.Finance_Flow.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -19,6 +36,7 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,56 +44,91 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AnalyticsServiceImpl implements AnalyticsService {
 
-    private final TransactionRepository transactionRepository;
-    private final BudgetRepository budgetRepository;
-    private final CategoryRepository categoryRepository;
+    private static final int MAX_COMPARISON_PERIODS = 120;
+    private static final int MAX_TIME_SERIES_BUCKETS = 1000;
+    private static final int DEFAULT_TOP_PAYEES = 10;
+
+    private final AnalyticsAggregateEngine aggregateEngine;
+    private final AnalyticsCache analyticsCache;
+    private final AnalyticsSectionExecutor sectionExecutor;
+    private final InsightEngine insightEngine;
+    private final SpendingAnomalyService spendingAnomalyService;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AnalyticsResponse getAnalytics(LocalDate startDate,
                                           LocalDate endDate) {
+        return getAnalytics(startDate, endDate, EnumSet.allOf(AnalyticsSection.class));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AnalyticsResponse getAnalytics(LocalDate startDate,
+                                          LocalDate endDate,
+                                          Set<AnalyticsSection> sections) {
+        Map<AnalyticsSection, Supplier<?>> tasks = new EnumMap<>(AnalyticsSection.class);
+
+        if (sections.contains(AnalyticsSection.SUMMARY)) {
+            tasks.put(AnalyticsSection.SUMMARY, () -> buildFinancialSummary(startDate, endDate));
+        }
+        if (sections.contains(AnalyticsSection.CATEGORY_BREAKDOWNS)) {
+            tasks.put(AnalyticsSection.CATEGORY_BREAKDOWNS, () -> buildCategoryBreakdowns(startDate, endDate));
+        }
+        if (sections.contains(AnalyticsSection.MONTHLY_TRENDS)) {
+            tasks.put(AnalyticsSection.MONTHLY_TRENDS, () -> buildMonthlyTrends(startDate, endDate));
+        }
+        if (sections.contains(AnalyticsSection.TOP_PAYEES)) {
+            tasks.put(AnalyticsSection.TOP_PAYEES, () -> buildTopPayees(startDate, endDate, DEFAULT_TOP_PAYEES));
+        }
+        if (sections.contains(AnalyticsSection.BUDGET_OVERVIEW)) {
+            tasks.put(AnalyticsSection.BUDGET_OVERVIEW, () -> buildBudgetOverview(YearMonth.now().atDay(1)));
+        }
+
+        Map<AnalyticsSection, Object> results = new EnumMap<>(AnalyticsSection.class);
+        results.putAll(sectionExecutor.execute(tasks));
+
+        if (sections.contains(AnalyticsSection.INSIGHTS)) {
+            Long userId = SecurityUtils.getCurrentUserId();
+            results.putAll(sectionExecutor.execute(Map.of(AnalyticsSection.INSIGHTS, () -> analyticsCache.get(
+                    userId, AnalyticsSection.INSIGHTS, startDate, endDate,
+                    () -> generateInsights(startDate, endDate, results)))));
+        }
 
         return AnalyticsResponse.builder()
-                .summary(buildFinancialSummary(startDate, endDate))
-                .categoryBreakdowns(buildCategoryBreakdowns(startDate, endDate))
-                .monthlyTrends(buildMonthlyTrends(startDate, endDate))
-                .budgetOverview(buildBudgetOverview(YearMonth.now().atDay(1)))
-                .insights(generateInsights(startDate, endDate))
+                .summary((AnalyticsResponse.FinancialSummary) results.get(AnalyticsSection.SUMMARY))
+                .categoryBreakdowns(castList(results.get(AnalyticsSection.CATEGORY_BREAKDOWNS)))
+                .monthlyTrends(castList(results.get(AnalyticsSection.MONTHLY_TRENDS)))
+                .budgetOverview((AnalyticsResponse.BudgetOverview) results.get(AnalyticsSection.BUDGET_OVERVIEW))
+                .insights(castList(results.get(AnalyticsSection.INSIGHTS)))
+                .topPayees(castList(results.get(AnalyticsSection.TOP_PAYEES)))
                 .build();
     }
 
     @Override
     public AnalyticsResponse.FinancialSummary buildFinancialSummary(LocalDate startDate,
                                                                     LocalDate endDate) {
-        User currentUser = SecurityUtils.getCurrentUser();
-        Long userId = currentUser.getId();
-
-        BigDecimal totalIncome = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.INCOME, startDate, endDate);
-
-        BigDecimal totalExpenses = transactionRepository.sumByUserAndTypeAndDateRange(
-                userId, TransactionType.EXPENSE, startDate, endDate);
-
-        BigDecimal averageExpenses = transactionRepository.averageByUserAndTypeAndDateRange(
-                userId, TransactionType.EXPENSE, startDate, endDate).setScale(2, RoundingMode.HALF_UP);
-
-        BigDecimal averageIncome = transactionRepository.averageByUserAndTypeAndDateRange(
-                userId, TransactionType.INCOME, startDate, endDate).setScale(2, RoundingMode.HALF_UP);
+        Long userId = SecurityUtils.getCurrentUserId();
+        return analyticsCache.get(userId, AnalyticsSection.SUMMARY, startDate, endDate,
+                () -> computeFinancialSummary(userId, startDate, endDate));
+    }
 
-        Integer countExpensesTransactions = transactionRepository.countByUserAndTypeAndTransactionDateBetween(
-                currentUser, TransactionType.EXPENSE, startDate, endDate);
+    private AnalyticsResponse.FinancialSummary computeFinancialSummary(Long userId,
+                                                                       LocalDate startDate,
+                                                                       LocalDate endDate) {
+        DateRange previous = new DateRange(startDate, endDate).previous();
 
-        Integer countIncomeTransactions = transactionRepository.countByUserAndTypeAndTransactionDateBetween(
-                currentUser, TransactionType.INCOME, startDate, endDate);
+        SummaryAggregates aggregates = aggregateEngine.summarize(
+                userId, startDate, endDate, previous.startDate(), previous.endDate());
 
-        LocalDate prevStartDate = startDate.minusMonths(endDate.toEpochDay() - startDate.toEpochDay() + 1);
-        LocalDate prevEndDate = startDate.minusMonths(1);
+        BigDecimal totalIncome = aggregates.incomeSum();
+        BigDecimal totalExpenses = aggregates.expenseSum();
 
-        BigDecimal percentageChange = calculatePercentageChange(currentUser.getId(), TransactionType.EXPENSE,
-                startDate, endDate, prevStartDate, prevEndDate);
+        BigDecimal percentageChange = calculatePercentageChange(
+                totalExpenses, aggregates.previousExpenseSum());
 
         BigDecimal netBalance = totalIncome.subtract(totalExpenses);
 
-        BigDecimal totalBalance = transactionRepository.calculateTotalBalance(currentUser);
+        BigDecimal totalBalance = aggregates.lifetimeBalance();
 
         BigDecimal savingsRate = totalIncome.compareTo(BigDecimal.ZERO) > 0
                 ? netBalance.divide(totalIncome, 4, RoundingMode.HALF_UP)
@@ -84,14 +137,16 @@ public class AnalyticsServiceImpl implements AnalyticsService {
 
         return AnalyticsResponse.FinancialSummary.builder()
                 .totalIncome(totalIncome)
-                .averageIncome(averageIncome)
+                .averageIncome(aggregates.incomeAverage())
                 .totalExpenses(totalExpenses)
-                .averageExpenses(averageExpenses)
+                .averageExpenses(aggregates.expenseAverage())
                 .netBalance(netBalance)
                 .totalBalance(totalBalance)
-                .expansiveTransactionsCount(countExpensesTransactions)
-                .incomeTransactionsCount(countIncomeTransactions)
+                .expansiveTransactionsCount(Math.toIntExact(aggregates.expenseCount()))
+                .incomeTransactionsCount(Math.toIntExact(aggregates.incomeCount()))
                 .differenceFromPreviousPeriod(percentageChange)
+                .previousPeriodIncome(aggregates.previousIncomeSum())
+                .previousPeriodExpenses(aggregates.previousExpenseSum())
                 .savingsRate(savingsRate)
                 .periodStart(startDate)
                 .periodEnd(endDate)
@@ -103,37 +158,35 @@ public class AnalyticsServiceImpl implements AnalyticsService {
             LocalDate startDate,
             LocalDate endDate) {
         Long userId = SecurityUtils.getCurrentUserId();
-        List<Object[]> categoryData = transactionRepository.sumByCategoryAndDateRange(
+        return analyticsCache.get(userId, AnalyticsSection.CATEGORY_BREAKDOWNS, startDate, endDate,
+                () -> computeCategoryBreakdowns(userId, startDate, endDate));
+    }
+
+    private List<AnalyticsResponse.CategoryBreakdown> computeCategoryBreakdowns(Long userId,
+                                                                        LocalDate startDate,
+                                                                        LocalDate endDate) {
+        List<CategorySpendView> categoryData = aggregateEngine.categorySpend(
                 userId, TransactionType.EXPENSE, startDate, endDate);
 
         BigDecimal totalExpenses = categoryData.stream()
-                .map(row -> (BigDecimal) row[1])
+                .map(CategorySpendView::getAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         return categoryData.stream()
                 .map(row -> {
-                    Long categoryId = (Long) row[0];
-                    BigDecimal amount = (BigDecimal) row[1];
-
-                    Category category = categoryRepository.findById(Math.toIntExact(categoryId))
-                            .orElseThrow();
-
                     BigDecimal percentage = totalExpenses.compareTo(BigDecimal.ZERO) > 0
-                            ? amount.divide(totalExpenses, 4, RoundingMode.HALF_UP)
+                            ? row.getAmount().divide(totalExpenses, 4, RoundingMode.HALF_UP)
                             .multiply(BigDecimal.valueOf(100))
                             : BigDecimal.ZERO;
 
-                    Long transactionCount = transactionRepository.countByCategoryAndTypeAndDateRange(
-                            userId, categoryId, TransactionType.EXPENSE, startDate, endDate);
-
                     return AnalyticsResponse.CategoryBreakdown.builder()
-                            .categoryId(categoryId)
-                            .categoryName(category.getName())
-                            .categoryIcon(category.getIcon())
-                            .categoryColor(category.getColor())
-                            .amount(amount)
+                            .categoryId(row.getCategoryId())
+                            .categoryName(row.getCategoryName())
+                            .categoryIcon(row.getCategoryIcon())
+                            .categoryColor(row.getCategoryColor())
+                            .amount(row.getAmount())
                             .percentage(percentage)
-                            .transactionCount(transactionCount.intValue())
+                            .transactionCount(Math.toIntExact(row.getTransactionCount()))
                             .build();
                 })
                 .sorted(Comparator.comparing(AnalyticsResponse.CategoryBreakdown::amount).reversed())
@@ -145,21 +198,23 @@ public class AnalyticsServiceImpl implements AnalyticsService {
             LocalDate startDate,
             LocalDate endDate) {
         Long userId = SecurityUtils.getCurrentUserId();
-        List<Object[]> trends = transactionRepository.getMonthlyTrends(
-                userId, startDate, endDate);
+        return analyticsCache.get(userId, AnalyticsSection.MONTHLY_TRENDS, startDate, endDate,
+                () -> computeMonthlyTrends(userId, startDate, endDate));
+    }
+
+    private List<AnalyticsResponse.MonthlyTrend> computeMonthlyTrends(Long userId,
+                                                              LocalDate startDate,
+                                                              LocalDate endDate) {
+        List<MonthlyTypeTotal> trends = aggregateEngine.monthlyTotals(userId, startDate, endDate);
 
         Map<String, BigDecimal> incomeMap = new HashMap<>();
         Map<String, BigDecimal> expensesMap = new HashMap<>();
 
-        for (Object[] row : trends) {
-            String month = (String) row[0];
-            TransactionType type = (TransactionType) row[1];
-            BigDecimal amount = (BigDecimal) row[2];
-
-            if (type == TransactionType.INCOME) {
-                incomeMap.merge(month, amount, BigDecimal::add);
+        for (MonthlyTypeTotal row : trends) {
+            if (row.type() == TransactionType.INCOME) {
+                incomeMap.merge(row.month(), row.amount(), BigDecimal::add);
             } else {
-                expensesMap.merge(month, amount, BigDecimal::add);
+                expensesMap.merge(row.month(), row.amount(), BigDecimal::add);
             }
         }
 
@@ -184,8 +239,14 @@ public class AnalyticsServiceImpl implements AnalyticsService {
 
     @Override
     public AnalyticsResponse.BudgetOverview buildBudgetOverview(LocalDate month) {
-        User currentUser = SecurityUtils.getCurrentUser();
-        List<Budget> budgets = budgetRepository.findActiveBudgetsForMonth(currentUser, month);
+        Long userId = SecurityUtils.getCurrentUserId();
+        return analyticsCache.get(userId, AnalyticsSection.BUDGET_OVERVIEW, month, month,
+                () -> computeBudgetOverview(userId, month));
+    }
+
+    private AnalyticsResponse.BudgetOverview computeBudgetOverview(Long userId, LocalDate month) {
+        LocalDate today = LocalDate.now();
+        List<BudgetSpendView> budgets = aggregateEngine.budgetSpend(userId, month, today);
 
         if (budgets.isEmpty()) {
             return AnalyticsResponse.BudgetOverview.builder()
@@ -197,26 +258,12 @@ public class AnalyticsServiceImpl implements AnalyticsService {
                     .build();
         }
 
-        YearMonth yearMonth = YearMonth.from(month);
-
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
-
         BigDecimal totalBudget = BigDecimal.ZERO;
         BigDecimal totalSpent = BigDecimal.ZERO;
-        List<AnalyticsResponse.BudgetStatus> statuses = new ArrayList<>();
-
-        for (Budget budget : budgets) {
-            BigDecimal spent = transactionRepository.sumByCategoryAndDateRange(
-                            currentUser.getId(),
-                            TransactionType.EXPENSE,
-                            startDate,
-                            endDate
-                    ).stream()
-                    .filter(row -> row[0].equals(budget.getCategory().getId()))
-                    .map(row -> (BigDecimal) row[1])
-                    .findFirst()
-                    .orElse(BigDecimal.ZERO);
+        List<AnalyticsResponse.BudgetStatus> statuses = new ArrayList<>(budgets.size());
+
+        for (BudgetSpendView budget : budgets) {
+            BigDecimal spent = budget.getSpent();
 
             BigDecimal remaining = budget.getLimitAmount().subtract(spent);
             BigDecimal utilization = budget.getLimitAmount().compareTo(BigDecimal.ZERO) > 0
@@ -224,17 +271,22 @@ public class AnalyticsServiceImpl implements AnalyticsService {
                     .multiply(BigDecimal.valueOf(100))
                     : BigDecimal.ZERO;
 
-            String status = determineStatus(utilization);
+            String status = BudgetProjection.statusForUtilization(utilization);
+            BudgetProjection projection = BudgetProjection.of(budget, month, today);
 
             statuses.add(AnalyticsResponse.BudgetStatus.builder()
-                    .budgetId(budget.getId())
-                    .categoryId(budget.getCategory().getId())
-                    .categoryName(budget.getCategory().getName())
+                    .budgetId(budget.getBudgetId())
+                    .categoryId(budget.getCategoryId())
+                    .categoryName(budget.getCategoryId() != null
+                            ? budget.getCategoryName()
+                            : "Global Budget")
                     .budgetLimit(budget.getLimitAmount())
                     .spent(spent)
                     .remaining(remaining)
                     .utilizationRate(utilization)
                     .status(status)
+                    .projectedSpend(projection.projectedSpend())
+                    .projectedStatus(projection.projectedStatus())
                     .build());
 
             totalBudget = totalBudget.add(budget.getLimitAmount());
@@ -256,79 +308,201 @@ public class AnalyticsServiceImpl implements AnalyticsService {
                 .build();
     }
 
-    private String determineStatus(BigDecimal utilizationRate) {
-        if (utilizationRate.compareTo(BigDecimal.valueOf(100)) >= 0) {
-            return "EXCEEDED";
-        } else if (utilizationRate.compareTo(BigDecimal.valueOf(80)) >= 0) {
-            return "WARNING";
-        } else {
-            return "SAFE";
+    @Override
+    public List<AnalyticsResponse.PeriodComparison> buildPeriodComparison(PeriodGranularity granularity,
+                                                                          int periods) {
+        if (periods < 1 || periods > MAX_COMPARISON_PERIODS) {
+            throw new BadRequestException("Periods must be between 1 and " + MAX_COMPARISON_PERIODS);
         }
+
+        Long userId = SecurityUtils.getCurrentUserId();
+        return aggregateEngine.periodTotals(userId, granularity, periods, LocalDate.now()).stream()
+                .map(row -> {
+                    LocalDate periodStart = LocalDate.parse(row.getPeriodStart());
+                    BigDecimal net = row.getIncome().subtract(row.getExpenses());
+                    BigDecimal previousNet = row.getPreviousIncome().subtract(row.getPreviousExpenses());
+
+                    return AnalyticsResponse.PeriodComparison.builder()
+                            .periodStart(periodStart)
+                            .periodEnd(granularity.plus(periodStart, 1).minusDays(1))
+                            .income(row.getIncome())
+                            .expenses(row.getExpenses())
+                            .net(net)
+                            .incomeChange(row.getIncome().subtract(row.getPreviousIncome()))
+                            .expensesChange(row.getExpenses().subtract(row.getPreviousExpenses()))
+                            .netChange(net.subtract(previousNet))
+                            .incomeChangePercentage(
+                                    calculatePercentageChange(row.getIncome(), row.getPreviousIncome()))
+                            .expensesChangePercentage(
+                                    calculatePercentageChange(row.getExpenses(), row.getPreviousExpenses()))
+                            .build();
+                })
+                .toList();
     }
 
-    private List<AnalyticsResponse.SpendingInsight> generateInsights(
-            LocalDate startDate,
-            LocalDate endDate) {
-        List<AnalyticsResponse.SpendingInsight> insights = new ArrayList<>();
-
-        List<AnalyticsResponse.CategoryBreakdown> categories = buildCategoryBreakdowns(startDate, endDate);
-
-
-        if (!categories.isEmpty()) {
-            AnalyticsResponse.CategoryBreakdown topCategory = categories.get(0);
-            insights.add(AnalyticsResponse.SpendingInsight.builder()
-                    .type("TOP_CATEGORY")
-                    .severity("INFO")
-                    .metadata(Map.of(
-                            "categoryId", topCategory.categoryId(),
-                            "amount", topCategory.amount(),
-                            "percentage", topCategory.percentage(),
-                            "categoryName", topCategory.categoryName()
-                    ))
-                    .build());
+    /**
+     * Top payees by spend, merged from the monthly Space-Saving summaries of
+     * every month the range touches. Amounts are upper bounds that exceed
+     * the true spend by at most {@code maxOverestimate}.
+     */
+    @Override
+    public List<AnalyticsResponse.PayeeSpend> buildTopPayees(LocalDate startDate,
+                                                             LocalDate endDate,
+                                                             int limit) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        List<AnalyticsResponse.PayeeSpend> payees = analyticsCache.get(
+                userId, AnalyticsSection.TOP_PAYEES, startDate, endDate,
+                () -> computeTopPayees(userId, startDate, endDate));
+        return payees.subList(0, Math.min(limit, payees.size()));
+    }
+
+    private List<AnalyticsResponse.PayeeSpend> computeTopPayees(Long userId,
+                                                                LocalDate startDate,
+                                                                LocalDate endDate) {
+        SpaceSaving merged = new SpaceSaving(SpaceSaving.CAPACITY);
+        for (PayeeSummary summary : aggregateEngine.payeeSummaries(userId, startDate, endDate)) {
+            merged.merge(SpaceSaving.of(summary.getEntries()));
         }
 
-        AnalyticsResponse.BudgetOverview budgetOverview = buildBudgetOverview(LocalDate.now());
-        budgetOverview.budgetStatuses().stream()
-                .filter(status -> "EXCEEDED".equals(status.status()) ||
-                        "WARNING".equals(status.status()))
-                .forEach(status -> {
-                    String severity = "EXCEEDED".equals(status.status())
-                            ? "CRITICAL" : "WARNING";
-                    String message = "EXCEEDED".equals(status.status())
-                            ? String.format("Budget exceeded for: %s", status.categoryName())
-                            : String.format("Warning! Close to budget: %s",
-                            status.categoryName());
-
-                    insights.add(AnalyticsResponse.SpendingInsight.builder()
-                            .type("BUDGET_ALERT")
-                            .message(message)
-                            .severity(severity)
-                            .metadata(Map.of(
-                                    "budgetId", status.budgetId(),
-                                    "categoryId", status.categoryId(),
-                                    "utilizationRate", status.utilizationRate()
-                            ))
-                            .build());
-                });
-
-        return insights;
+        return merged.entries().stream()
+                .map(counter -> AnalyticsResponse.PayeeSpend.builder()
+                        .payee(counter.payee())
+                        .amount(counter.spend())
+                        .transactionCount(counter.count())
+                        .maxOverestimate(counter.error())
+                        .build())
+                .toList();
     }
 
-    public BigDecimal calculatePercentageChange(
-            Long userId,
-            TransactionType type,
-            LocalDate startDate,
-            LocalDate endDate,
-            LocalDate prevStartDate,
-            LocalDate prevEndDate) {
+    /**
+     * Amount quantiles merged from the monthly sketches of every month the
+     * range touches, so partial months count in full.
+     */
+    @Override
+    public AnalyticsResponse.AmountDistribution buildAmountDistribution(LocalDate startDate,
+                                                                        LocalDate endDate) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        Map<TransactionType, MergingDigest> byType = new EnumMap<>(TransactionType.class);
+        Map<CategoryTypeKey, MergingDigest> byCategory = new HashMap<>();
+        Map<Long, String> categoryNames = new HashMap<>();
+
+        for (Object[] row : aggregateEngine.amountSketches(userId, startDate, endDate)) {
+            TransactionAmountSketch sketch = (TransactionAmountSketch) row[0];
+            MergingDigest digest = AmountSketches.fromBytes(sketch.getDigest());
+            CategoryTypeKey key = new CategoryTypeKey(sketch.getId().getType(), sketch.getId().getCategoryId());
+
+            byType.computeIfAbsent(key.type(), type -> AmountSketches.empty()).add(digest);
+            byCategory.computeIfAbsent(key, k -> AmountSketches.empty()).add(digest);
+            if (row[1] != null) {
+                categoryNames.put(key.categoryId(), (String) row[1]);
+            }
+        }
 
-        BigDecimal currentPeriod = transactionRepository.calculatePeriodSum(
-                userId, type, startDate, endDate);
+        return AnalyticsResponse.AmountDistribution.builder()
+                .periodStart(YearMonth.from(startDate).atDay(1))
+                .periodEnd(YearMonth.from(endDate).atEndOfMonth())
+                .byType(byType.entrySet().stream()
+                        .map(entry -> quantiles(entry.getKey(), null, null, entry.getValue()))
+                        .toList())
+                .byCategory(byCategory.entrySet().stream()
+                        .map(entry -> quantiles(
+                                entry.getKey().type(),
+                                entry.getKey().categoryId(),
+                                categoryNames.getOrDefault(entry.getKey().categoryId(), "Uncategorized"),
+                                entry.getValue()))
+                        .sorted(Comparator.comparing(AnalyticsResponse.AmountQuantiles::type)
+                                .thenComparing(AnalyticsResponse.AmountQuantiles::transactionCount,
+                                        Comparator.reverseOrder()))
+                        .toList())
+                .build();
+    }
 
-        BigDecimal previousPeriod = transactionRepository.calculatePeriodSum(
-                userId, type, prevStartDate, prevEndDate);
+    private static AnalyticsResponse.AmountQuantiles quantiles(TransactionType type,
+                                                               Long categoryId,
+                                                               String categoryName,
+                                                               MergingDigest digest) {
+        return AnalyticsResponse.AmountQuantiles.builder()
+                .type(type)
+                .categoryId(categoryId)
+                .categoryName(categoryName)
+                .transactionCount(digest.size())
+                .median(quantile(digest, 0.5))
+                .p90(quantile(digest, 0.9))
+                .p99(quantile(digest, 0.99))
+                .build();
+    }
+
+    private static BigDecimal quantile(MergingDigest digest, double q) {
+        return BigDecimal.valueOf(digest.quantile(q)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private record CategoryTypeKey(TransactionType type, Long categoryId) {
+    }
+
+    @Override
+    public AnalyticsResponse.TimeSeries buildTimeSeries(PeriodGranularity granularity,
+                                                        LocalDate startDate,
+                                                        LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("Start date must not be after end date");
+        }
+        if (granularity.truncate(endDate).isAfter(
+                granularity.plus(granularity.truncate(startDate), MAX_TIME_SERIES_BUCKETS - 1))) {
+            throw new BadRequestException("Time series is limited to " + MAX_TIME_SERIES_BUCKETS + " buckets");
+        }
+
+        Long userId = SecurityUtils.getCurrentUserId();
+        List<TimeSeriesBucketView> rows = aggregateEngine.timeSeries(userId, granularity, startDate, endDate);
+
+        List<LocalDate> buckets = new ArrayList<>(rows.size());
+        List<BigDecimal> income = new ArrayList<>(rows.size());
+        List<BigDecimal> expenses = new ArrayList<>(rows.size());
+        List<BigDecimal> net = new ArrayList<>(rows.size());
+        for (TimeSeriesBucketView row : rows) {
+            buckets.add(LocalDate.parse(row.getBucket()));
+            income.add(row.getIncome());
+            expenses.add(row.getExpenses());
+            net.add(row.getIncome().subtract(row.getExpenses()));
+        }
+
+        return AnalyticsResponse.TimeSeries.builder()
+                .granularity(granularity)
+                .startDate(startDate)
+                .endDate(endDate)
+                .buckets(buckets)
+                .income(income)
+                .expenses(expenses)
+                .net(net)
+                .build();
+    }
+
+    private List<AnalyticsResponse.SpendingInsight> generateInsights(LocalDate startDate,
+                                                                     LocalDate endDate,
+                                                                     Map<AnalyticsSection, Object> computed) {
+        DateRange range = new DateRange(startDate, endDate);
+        DateRange previous = range.previous();
+
+        InsightContext context = new InsightContext(range)
+                .loader(InsightAggregate.SUMMARY, () -> buildFinancialSummary(startDate, endDate))
+                .loader(InsightAggregate.CATEGORY_BREAKDOWNS, () -> buildCategoryBreakdowns(startDate, endDate))
+                .loader(InsightAggregate.PREVIOUS_CATEGORY_BREAKDOWNS,
+                        () -> buildCategoryBreakdowns(previous.startDate(), previous.endDate()))
+                .loader(InsightAggregate.BUDGET_OVERVIEW, () -> buildBudgetOverview(YearMonth.now().atDay(1)))
+                .loader(InsightAggregate.SPENDING_ANOMALIES, () -> spendingAnomalyService.findAnomalies(
+                        SecurityUtils.getCurrentUserId(), startDate, endDate))
+                .seed(InsightAggregate.SUMMARY, computed.get(AnalyticsSection.SUMMARY))
+                .seed(InsightAggregate.CATEGORY_BREAKDOWNS, computed.get(AnalyticsSection.CATEGORY_BREAKDOWNS))
+                .seed(InsightAggregate.BUDGET_OVERVIEW, computed.get(AnalyticsSection.BUDGET_OVERVIEW));
+
+        return insightEngine.evaluate(context);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(Object value) {
+        return (List<T>) value;
+    }
 
+    private BigDecimal calculatePercentageChange(BigDecimal currentPeriod, BigDecimal previousPeriod) {
         if (previousPeriod.compareTo(BigDecimal.ZERO) == 0) {
             return currentPeriod.compareTo(BigDecimal.ZERO) == 0
                     ? BigDecimal.ZERO
@@ -14,6 +14,7 @@ import finance_flow.Finance_Flow.security.JwtTokenProvider;
 import finance_flow.Finance_Flow.security.UserPrincipal;
 import finance_flow.Finance_Flow.service.AuthService;
 import finance_flow.Finance_Flow.service.CategoryService;
+import finance_flow.Finance_Flow.service.analytics.DashboardPrecomputer;
 import finance_flow.Finance_Flow.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,7 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final CategoryService categoryService;
+    private final DashboardPrecomputer dashboardPrecomputer;
 
     @Override
     @Transactional
@@ -51,6 +53,7 @@ public class AuthServiceImpl implements AuthService {
         String token = jwtTokenProvider.generateToken(userPrincipal);
 
         userRepository.updateLastLogin(user.getId(), LocalDateTime.now());
+        dashboardPrecomputer.scheduleAfterLogin(user.getId());
         log.info("User logged in successfully: {}", user.getEmail());
         return buildAuthResponse(user, token);
     }
@@ -0,0 +1,116 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.model.AccountBalance;
+import finance_flow.Finance_Flow.model.Transaction;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.AccountBalanceRepository;
+import finance_flow.Finance_Flow.repository.projection.BalanceDriftView;
+import finance_flow.Finance_Flow.service.BalanceLedgerService;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceLedgerServiceImpl implements BalanceLedgerService {
+
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final AnalyticsCache analyticsCache;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Transaction transaction) {
+        accountBalanceRepository.applyDelta(transaction.getUser().getId(), signedAmount(transaction));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Transaction transaction) {
+        accountBalanceRepository.applyDelta(transaction.getUser().getId(), signedAmount(transaction).negate());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Transaction previous, Transaction current) {
+        BigDecimal delta = signedAmount(current).subtract(signedAmount(previous));
+        if (delta.signum() != 0) {
+            accountBalanceRepository.applyDelta(current.getUser().getId(), delta);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordBulkDelta(Long userId, BigDecimal delta) {
+        if (delta.signum() != 0) {
+            accountBalanceRepository.applyDelta(userId, delta);
+        }
+    }
+
+    /**
+     * Removes the balance contribution of a category's transactions. Must run
+     * before the category is deleted, while the cascaded rows still exist.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCategoryDeleting(Long userId, Long categoryId) {
+        recordBulkDelta(userId, accountBalanceRepository.calculateCategoryBalance(userId, categoryId).negate());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal getBalance(Long userId) {
+        return accountBalanceRepository.findBalanceByUserId(userId).orElse(BigDecimal.ZERO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BalanceDriftView> findDrift() {
+        return accountBalanceRepository.findDrift();
+    }
+
+    /**
+     * Recomputes the user's balance from raw transactions while holding the
+     * ledger row lock. Writers update the same row inside their transaction,
+     * so none of their deltas can be lost or double counted by the reset.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean reconcileUser(Long userId) {
+        accountBalanceRepository.ensureExists(userId);
+        AccountBalance ledger = accountBalanceRepository.findForUpdate(userId).orElseThrow();
+
+        BigDecimal actual = accountBalanceRepository.calculateTransactionBalance(userId);
+        if (ledger.getBalance().compareTo(actual) == 0) {
+            return false;
+        }
+
+        log.warn("Balance ledger drift for user {}: ledger {}, transactions {}",
+                userId, ledger.getBalance(), actual);
+        ledger.setBalance(actual);
+        ledger.setUpdatedAt(LocalDateTime.now());
+        analyticsCache.invalidateUser(userId);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        int rows = accountBalanceRepository.rebuildAll();
+        log.info("Rebuilt {} ledger balances from transactions", rows);
+        return rows;
+    }
+
+    private static BigDecimal signedAmount(Transaction transaction) {
+        return transaction.getType() == TransactionType.INCOME
+                ? transaction.getAmount()
+                : transaction.getAmount().negate();
+    }
+}
@@ -10,8 +10,12 @@ import finance_flow.Finance_Flow.model.User;
 import finance_flow.Finance_Flow.model.enums.TransactionType;
 import finance_flow.Finance_Flow.repository.BudgetRepository;
 import finance_flow.Finance_Flow.repository.CategoryRepository;
-import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.TransactionMonthlyRollupRepository;
 import finance_flow.Finance_Flow.service.BudgetService;
+import finance_flow.Finance_Flow.repository.projection.BudgetSpendView;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsAggregateEngine;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsCache;
+import finance_flow.Finance_Flow.service.analytics.BudgetProjection;
 import finance_flow.Finance_Flow.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +26,9 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static finance_flow.Finance_Flow.model.enums.TransactionType.EXPENSE;
@@ -34,7 +40,9 @@ public class BudgetServiceImpl implements BudgetService {
 
     private final BudgetRepository budgetRepository;
     private final CategoryRepository categoryRepository;
-    private final TransactionRepository transactionRepository;
+    private final TransactionMonthlyRollupRepository rollupRepository;
+    private final AnalyticsCache analyticsCache;
+    private final AnalyticsAggregateEngine aggregateEngine;
 
     @Override
     @Transactional
@@ -62,6 +70,7 @@ public class BudgetServiceImpl implements BudgetService {
                 .build();
 
         Budget savedBudget = budgetRepository.save(budget);
+        analyticsCache.invalidateUser(currentUser.getId());
         log.info("Budget created successfully with id: {}", savedBudget.getId());
 
         return mapToResponse(savedBudget);
@@ -100,6 +109,7 @@ public class BudgetServiceImpl implements BudgetService {
         budget.setCategory(category);
 
         Budget updatedBudget = budgetRepository.save(budget);
+        analyticsCache.invalidateUser(currentUser.getId());
         log.info("Budget updated successfully");
 
         return mapToResponse(updatedBudget);
@@ -116,6 +126,7 @@ public class BudgetServiceImpl implements BudgetService {
             throw new ResourceNotFoundException("Budget not exists");
         }
         budgetRepository.delete(budget);
+        analyticsCache.invalidateUser(currentUser.getId());
     }
 
     @Override
@@ -145,8 +156,24 @@ public class BudgetServiceImpl implements BudgetService {
     public List<BudgetResponse> getBudgetsByMonth(LocalDate month) {
         User currentUser = SecurityUtils.getCurrentUser();
         List<Budget> budgetList = budgetRepository.findByUserAndMonth(currentUser, month);
+        if (budgetList.isEmpty()) {
+            return List.of();
+        }
 
-        return budgetList.stream().map(this::mapToResponse).collect(Collectors.toList());
+        LocalDate today = LocalDate.now();
+        Map<Long, BudgetSpendView> spendByBudget = aggregateEngine.budgetSpend(currentUser.getId(), month, today)
+                .stream()
+                .collect(Collectors.toMap(BudgetSpendView::getBudgetId, Function.identity()));
+
+        return budgetList.stream()
+                .map(budget -> {
+                    BudgetSpendView spend = spendByBudget.get(budget.getId());
+                    if (spend == null) {
+                        return mapToResponse(budget);
+                    }
+                    return mapToResponse(budget, spend.getSpent(), BudgetProjection.of(spend, month, today));
+                })
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -174,7 +201,10 @@ public class BudgetServiceImpl implements BudgetService {
                 budget.getCategory(),
                 budget.getMonth()
         );
+        return mapToResponse(budget, spent, null);
+    }
 
+    private BudgetResponse mapToResponse(Budget budget, BigDecimal spent, BudgetProjection projection) {
         BigDecimal remaining = budget.getLimitAmount().subtract(spent);
 
         Integer percentageUsed = budget.getLimitAmount().compareTo(BigDecimal.ZERO) == 0
@@ -185,20 +215,22 @@ public class BudgetServiceImpl implements BudgetService {
 
         return BudgetResponse.builder()
                 .id(budget.getId())
-                .categoryId(budget.getCategory().getId())
+                .categoryId(budget.getCategory() != null ? budget.getCategory().getId() : null)
                 .categoryName(budget.getCategory() != null
                         ? budget.getCategory().getName()
                         : "Global Budget")
                 .categoryColor(budget.getCategory() != null
                         ? budget.getCategory().getColor()
                         : "#6B7280")
-                .categoryIcon(budget.getCategory().getIcon())
+                .categoryIcon(budget.getCategory() != null ? budget.getCategory().getIcon() : null)
                 .limitAmount(budget.getLimitAmount())
                 .month(budget.getMonth())
                 .alertEnabled(budget.getAlertEnabled())
                 .spentAmount(spent)
                 .remainingAmount(remaining)
                 .percentageUsed(percentageUsed)
+                .projectedSpend(projection != null ? projection.projectedSpend() : null)
+                .projectedStatus(projection != null ? projection.projectedStatus() : null)
                 .createdAt(budget.getCreatedAt())
                 .updatedAt(budget.getUpdatedAt())
                 .build();
@@ -206,22 +238,19 @@ public class BudgetServiceImpl implements BudgetService {
 
 
     private BigDecimal calculateSpentAmount(User user, Category category, LocalDate month) {
-        LocalDate startOfMonth = month.withDayOfMonth(1);
-        LocalDate endOfMonth = month.withDayOfMonth(month.lengthOfMonth());
+        LocalDate rollupMonth = month.withDayOfMonth(1);
         if (category == null) {
-            return transactionRepository.sumByUserAndTypeAndDateRange(
+            return rollupRepository.sumByUserAndTypeAndMonth(
                     user.getId(),
                     TransactionType.EXPENSE,
-                    startOfMonth,
-                    endOfMonth
+                    rollupMonth
             );
         }
-        return transactionRepository.sumByCategoryAndTypeAndDateRange(
+        return rollupRepository.sumByUserAndCategoryAndTypeAndMonth(
+                user.getId(),
                 category.getId(),
                 EXPENSE,
-                startOfMonth,
-                endOfMonth
+                rollupMonth
         );
     }
 }
-
@@ -9,7 +9,13 @@ import finance_flow.Finance_Flow.model.User;
 import finance_flow.Finance_Flow.model.enums.TransactionType;
 import finance_flow.Finance_Flow.repository.CategoryRepository;
 import finance_flow.Finance_Flow.security.UserPrincipal;
+import finance_flow.Finance_Flow.service.BalanceLedgerService;
 import finance_flow.Finance_Flow.service.CategoryService;
+import finance_flow.Finance_Flow.service.PayeeSummaryService;
+import finance_flow.Finance_Flow.service.SpendingAnomalyService;
+import finance_flow.Finance_Flow.service.TransactionRollupService;
+import finance_flow.Finance_Flow.service.TransactionSketchService;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsCache;
 import finance_flow.Finance_Flow.util.DefaultCategoriesGenerator;
 import finance_flow.Finance_Flow.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +31,12 @@ import java.util.List;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final TransactionRollupService rollupService;
+    private final BalanceLedgerService balanceLedgerService;
+    private final TransactionSketchService sketchService;
+    private final SpendingAnomalyService spendingAnomalyService;
+    private final PayeeSummaryService payeeSummaryService;
+    private final AnalyticsCache analyticsCache;
 
     @Override
     @Transactional
@@ -52,6 +64,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .build();
 
         Category saved = categoryRepository.save(category);
+        analyticsCache.invalidateUser(currentUser.getId());
 
         return mapToResponse(saved);
     }
@@ -87,6 +100,7 @@ public class CategoryServiceImpl implements CategoryService {
         category.setDescription(request.description());
         category.setDisplayOrder(request.displayOrder() != null ? request.displayOrder() : 0);
         Category updated = categoryRepository.save(category);
+        analyticsCache.invalidateUser(currentUser.getId());
 
         log.info("Category updated successfully");
 
@@ -99,7 +113,13 @@ public class CategoryServiceImpl implements CategoryService {
         User currentUser = SecurityUtils.getCurrentUser();
         Category category = categoryRepository.findByIdAndUser(id, currentUser)
                 .orElseThrow(() -> new BadRequestException("Category not found"));
+        balanceLedgerService.recordCategoryDeleting(currentUser.getId(), id);
         categoryRepository.delete(category);
+        rollupService.recordCategoryDeleted(currentUser.getId(), id);
+        sketchService.recordCategoryDeleted(currentUser.getId());
+        spendingAnomalyService.recordCategoryDeleted(currentUser.getId(), id);
+        payeeSummaryService.rebuildForUser(currentUser.getId());
+        analyticsCache.invalidateUser(currentUser.getId());
     }
 
     @Override
@@ -0,0 +1,173 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.model.PayeeSummary;
+import finance_flow.Finance_Flow.model.PayeeSummaryId;
+import finance_flow.Finance_Flow.model.Transaction;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.PayeeSummaryRepository;
+import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.projection.TransactionRow;
+import finance_flow.Finance_Flow.service.PayeeSummaryService;
+import finance_flow.Finance_Flow.service.analytics.SpaceSaving;
+import finance_flow.Finance_Flow.util.PayeeNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the monthly payee summaries. A new expense is offered to its
+ * month's summary as it is written. A Space-Saving counter may hold weight
+ * inherited from the payees it displaced, so an amount cannot be subtracted
+ * back out; an edited or removed expense makes the month recount from its
+ * raw descriptions.
+ */
+@Service
+@Slf4j
+public class PayeeSummaryServiceImpl implements PayeeSummaryService {
+
+    private final PayeeSummaryRepository payeeSummaryRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PayeeSummaryServiceImpl(PayeeSummaryRepository payeeSummaryRepository,
+                                   TransactionRepository transactionRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.payeeSummaryRepository = payeeSummaryRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Transaction transaction) {
+        String payee = payeeOf(transaction);
+        if (payee == null) {
+            return;
+        }
+
+        PayeeSummary summary = lockMonth(transaction.getUser().getId(), transaction.getTransactionDate());
+        SpaceSaving spaceSaving = SpaceSaving.of(summary.getEntries());
+        spaceSaving.offer(payee, transaction.getAmount());
+        store(summary, spaceSaving);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Transaction transaction) {
+        if (payeeOf(transaction) != null) {
+            rebuildMonth(transaction.getUser().getId(), transaction.getTransactionDate());
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Transaction previous, Transaction current) {
+        boolean sameMonth = YearMonth.from(previous.getTransactionDate())
+                .equals(YearMonth.from(current.getTransactionDate()));
+
+        if (payeeOf(previous) != null) {
+            rebuildMonth(previous.getUser().getId(), previous.getTransactionDate());
+            if (sameMonth) {
+                return;
+            }
+        }
+        recordCreated(current);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void rebuildMonths(Collection<Transaction> transactions) {
+        transactions.stream()
+                .filter(transaction -> payeeOf(transaction) != null)
+                .map(transaction -> new PayeeSummaryId(
+                        transaction.getUser().getId(), transaction.getTransactionDate().withDayOfMonth(1)))
+                .distinct()
+                .forEach(id -> rebuildMonth(id.getUserId(), id.getMonth()));
+    }
+
+    @Override
+    @Transactional
+    public int rebuildForUser(Long userId) {
+        payeeSummaryRepository.deleteByUserId(userId);
+
+        Map<LocalDate, SpaceSaving> months = new HashMap<>();
+        try (Stream<TransactionRow> rows = transactionRepository.streamRowsByUserId(userId)) {
+            rows.filter(row -> row.type() == TransactionType.EXPENSE)
+                    .forEach(row -> {
+                        String payee = PayeeNormalizer.normalize(row.description());
+                        if (payee != null) {
+                            months.computeIfAbsent(row.transactionDate().withDayOfMonth(1),
+                                            month -> new SpaceSaving(SpaceSaving.CAPACITY))
+                                    .offer(payee, row.amount());
+                        }
+                    });
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        payeeSummaryRepository.saveAll(months.entrySet().stream()
+                .map(entry -> PayeeSummary.builder()
+                        .id(new PayeeSummaryId(userId, entry.getKey()))
+                        .entries(entry.getValue().entries())
+                        .updatedAt(now)
+                        .build())
+                .toList());
+
+        log.debug("Rebuilt {} payee summaries for user {}", months.size(), userId);
+        return months.size();
+    }
+
+    @Override
+    public int rebuildAll() {
+        int months = 0;
+        for (Long userId : transactionRepository.findUserIdsWithTransactions()) {
+            Integer rebuilt = transactionTemplate.execute(status -> rebuildForUser(userId));
+            months += rebuilt != null ? rebuilt : 0;
+        }
+        log.info("Rebuilt {} payee summaries for all users", months);
+        return months;
+    }
+
+    private void rebuildMonth(Long userId, LocalDate date) {
+        PayeeSummary summary = lockMonth(userId, date);
+        YearMonth month = YearMonth.from(date);
+
+        SpaceSaving spaceSaving = new SpaceSaving(SpaceSaving.CAPACITY);
+        for (Object[] row : transactionRepository.findExpenseDescriptions(
+                userId, month.atDay(1), month.atEndOfMonth())) {
+            String payee = PayeeNormalizer.normalize((String) row[0]);
+            if (payee != null) {
+                spaceSaving.offer(payee, (BigDecimal) row[1]);
+            }
+        }
+        store(summary, spaceSaving);
+    }
+
+    private PayeeSummary lockMonth(Long userId, LocalDate date) {
+        LocalDate month = date.withDayOfMonth(1);
+        payeeSummaryRepository.ensureExists(userId, month);
+        return payeeSummaryRepository.findForUpdate(new PayeeSummaryId(userId, month)).orElseThrow();
+    }
+
+    private void store(PayeeSummary summary, SpaceSaving spaceSaving) {
+        summary.setEntries(spaceSaving.entries());
+        summary.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private static String payeeOf(Transaction transaction) {
+        return transaction.getType() == TransactionType.EXPENSE
+                ? PayeeNormalizer.normalize(transaction.getDescription())
+                : null;
+    }
+}
@@ -0,0 +1,176 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.model.CategorySpendingStats;
+import finance_flow.Finance_Flow.model.CategorySpendingStatsId;
+import finance_flow.Finance_Flow.model.SpendingAnomaly;
+import finance_flow.Finance_Flow.model.Transaction;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.CategorySpendingStatsRepository;
+import finance_flow.Finance_Flow.repository.SpendingAnomalyRepository;
+import finance_flow.Finance_Flow.service.SpendingAnomalyService;
+import finance_flow.Finance_Flow.service.analytics.RunningStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class SpendingAnomalyServiceImpl implements SpendingAnomalyService {
+
+    private final CategorySpendingStatsRepository statsRepository;
+    private final SpendingAnomalyRepository anomalyRepository;
+    private final long minSamples;
+    private final double zThreshold;
+    private final double minRatio;
+
+    public SpendingAnomalyServiceImpl(
+            CategorySpendingStatsRepository statsRepository,
+            SpendingAnomalyRepository anomalyRepository,
+            @Value("${app.anomaly.min-samples}") long minSamples,
+            @Value("${app.anomaly.z-threshold}") double zThreshold,
+            @Value("${app.anomaly.min-ratio}") double minRatio
+    ) {
+        this.statsRepository = statsRepository;
+        this.anomalyRepository = anomalyRepository;
+        this.minSamples = minSamples;
+        this.zThreshold = zThreshold;
+        this.minRatio = minRatio;
+    }
+
+    /**
+     * Scores the expense against the category's running statistics, then
+     * folds it into them. The stats row is locked for the update, so
+     * concurrent expenses in the same category are applied one at a time.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<SpendingAnomaly> recordCreated(Transaction transaction) {
+        if (transaction.getType() != TransactionType.EXPENSE) {
+            return Optional.empty();
+        }
+
+        Long userId = transaction.getUser().getId();
+        CategorySpendingStatsId id = statsId(transaction);
+        statsRepository.ensureExists(userId, id.getCategoryId());
+        CategorySpendingStats stats = statsRepository.findForUpdate(id).orElseThrow();
+
+        RunningStats before = new RunningStats(stats.getSampleCount(), stats.getMean(), stats.getM2());
+        double amount = transaction.getAmount().doubleValue();
+        RunningStats after = before.add(amount);
+
+        store(stats, after);
+
+        if (!isAnomalous(before, amount)) {
+            return Optional.empty();
+        }
+
+        SpendingAnomaly anomaly = anomalyRepository.save(SpendingAnomaly.builder()
+                .userId(userId)
+                .transactionId(transaction.getId())
+                .categoryId(transaction.getCategory() != null ? transaction.getCategory().getId() : null)
+                .categoryName(transaction.getCategory() != null ? transaction.getCategory().getName() : null)
+                .amount(transaction.getAmount())
+                .typicalAmount(BigDecimal.valueOf(before.mean()).setScale(2, RoundingMode.HALF_UP))
+                .zScore(before.zScore(amount))
+                .transactionDate(transaction.getTransactionDate())
+                .detectedAt(LocalDateTime.now())
+                .build());
+
+        log.info("Flagged transaction {} of user {} as anomalous (amount {}, typical {})",
+                transaction.getId(), userId, transaction.getAmount(), anomaly.getTypicalAmount());
+        return Optional.of(anomaly);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Transaction transaction) {
+        anomalyRepository.deleteByTransactionId(transaction.getId());
+        removeFromStats(transaction);
+    }
+
+    /**
+     * Takes the old amount out of its category's statistics and scores the
+     * new one as if it had just been created, so a corrected amount neither
+     * keeps its flag nor leaves the old value in the variance.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<SpendingAnomaly> recordUpdated(Transaction previous, Transaction current) {
+        anomalyRepository.deleteByTransactionId(previous.getId());
+        removeFromStats(previous);
+        return recordCreated(current);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCategoryDeleted(Long userId, Long categoryId) {
+        anomalyRepository.deleteByUserIdAndCategoryId(userId, categoryId);
+        statsRepository.deleteByUserIdAndCategoryId(userId, categoryId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SpendingAnomaly> findAnomalies(Long userId, LocalDate startDate, LocalDate endDate) {
+        return anomalyRepository.findByUserAndDateRange(userId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional
+    public int rebuildStats() {
+        statsRepository.deleteAllRows();
+        int rows = statsRepository.rebuildAll();
+        log.info("Rebuilt {} category spending stats rows", rows);
+        return rows;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildStatsForUser(Long userId) {
+        statsRepository.deleteByUserId(userId);
+        int rows = statsRepository.rebuildForUser(userId);
+        log.info("Rebuilt {} category spending stats rows for user {}", rows, userId);
+        return rows;
+    }
+
+    private void removeFromStats(Transaction transaction) {
+        if (transaction.getType() != TransactionType.EXPENSE) {
+            return;
+        }
+        statsRepository.findForUpdate(statsId(transaction)).ifPresent(stats -> store(stats,
+                new RunningStats(stats.getSampleCount(), stats.getMean(), stats.getM2())
+                        .remove(transaction.getAmount().doubleValue())));
+    }
+
+    private static void store(CategorySpendingStats stats, RunningStats running) {
+        stats.setSampleCount(running.count());
+        stats.setMean(running.mean());
+        stats.setM2(running.m2());
+        stats.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private static CategorySpendingStatsId statsId(Transaction transaction) {
+        Long categoryId = transaction.getCategory() != null
+                ? transaction.getCategory().getId()
+                : CategorySpendingStatsId.UNCATEGORIZED;
+        return new CategorySpendingStatsId(transaction.getUser().getId(), categoryId);
+    }
+
+    private boolean isAnomalous(RunningStats stats, double amount) {
+        if (stats.count() < minSamples || stats.mean() <= 0) {
+            return false;
+        }
+        if (amount < stats.mean() * minRatio) {
+            return false;
+        }
+        return stats.standardDeviation() == 0 || stats.zScore(amount) >= zThreshold;
+    }
+}
@@ -0,0 +1,364 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.dto.request.TransactionBatchRequest;
+import finance_flow.Finance_Flow.dto.request.TransactionRequest;
+import finance_flow.Finance_Flow.dto.response.TransactionBatchResponse;
+import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+import finance_flow.Finance_Flow.model.Category;
+import finance_flow.Finance_Flow.model.Transaction;
+import finance_flow.Finance_Flow.model.User;
+import finance_flow.Finance_Flow.model.enums.BatchOperationType;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.CategoryRepository;
+import finance_flow.Finance_Flow.service.BalanceLedgerService;
+import finance_flow.Finance_Flow.service.PayeeSummaryService;
+import finance_flow.Finance_Flow.service.SpendingAnomalyService;
+import finance_flow.Finance_Flow.service.TransactionBatchService;
+import finance_flow.Finance_Flow.service.TransactionRollupService;
+import finance_flow.Finance_Flow.service.TransactionSketchService;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsCache;
+import finance_flow.Finance_Flow.util.SecurityUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a client's batch of offline edits in one transaction. Referenced
+ * categories and transactions are loaded with one query each, the existing
+ * rows are locked, and inserts, updates and deletes are written as JDBC
+ * batches. Operations are validated one by one, so an invalid item is
+ * reported without failing the rest of the batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionBatchServiceImpl implements TransactionBatchService {
+
+    private static final String LOCK_EXISTING =
+            "SELECT t.transaction_id, t.transaction_date, t.type, t.amount, t.description, t.created_at, " +
+            "c.id AS category_id, c.name AS category_name, c.icon AS category_icon, c.color AS category_color " +
+            "FROM transactions t " +
+            "LEFT JOIN categories c ON c.id = t.category_id " +
+            "WHERE t.user_id = :userId AND t.transaction_id IN (:ids) " +
+            "FOR UPDATE OF t";
+
+    private static final String ALLOCATE_IDS =
+            "SELECT nextval(pg_get_serial_sequence('transactions', 'transaction_id')) " +
+            "FROM generate_series(1, ?) ORDER BY 1";
+
+    private static final String INSERT =
+            "INSERT INTO transactions (transaction_id, user_id, category_id, amount, type, description, " +
+            "transaction_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE =
+            "UPDATE transactions SET category_id = ?, amount = ?, type = ?, description = ?, " +
+            "transaction_date = ?, updated_at = ? WHERE transaction_id = ? AND user_id = ?";
+
+    private static final String DELETE =
+            "DELETE FROM transactions WHERE transaction_id = ? AND user_id = ?";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CategoryRepository categoryRepository;
+    private final TransactionRollupService rollupService;
+    private final BalanceLedgerService balanceLedgerService;
+    private final SpendingAnomalyService spendingAnomalyService;
+    private final TransactionSketchService sketchService;
+    private final PayeeSummaryService payeeSummaryService;
+    private final AnalyticsCache analyticsCache;
+    private final Validator validator;
+
+    @Override
+    @Transactional
+    public TransactionBatchResponse applyBatch(TransactionBatchRequest request) {
+        User currentUser = SecurityUtils.getCurrentUser();
+        List<TransactionBatchRequest.Operation> operations = request.operations();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, Category> categories = loadCategories(currentUser, operations);
+        Map<Long, Transaction> working = lockExisting(currentUser, operations);
+
+        TransactionBatchResponse.ItemResult[] results = new TransactionBatchResponse.ItemResult[operations.size()];
+        List<Applied> applied = new ArrayList<>();
+        List<Transaction> creates = new ArrayList<>();
+        List<Transaction> updates = new ArrayList<>();
+        List<Transaction> deletes = new ArrayList<>();
+
+        for (int index = 0; index < operations.size(); index++) {
+            TransactionBatchRequest.Operation operation = operations.get(index);
+            String error = validate(operation);
+
+            if (error == null) {
+                Long id = operation.id();
+                TransactionRequest payload = operation.transaction();
+                Transaction previous = operation.operation() == BatchOperationType.CREATE ? null : working.get(id);
+                Category category = payload != null ? categories.get(payload.categoryId()) : null;
+
+                if (operation.operation() != BatchOperationType.CREATE && previous == null) {
+                    error = "Transaction not found";
+                } else if (operation.operation() != BatchOperationType.DELETE && category == null) {
+                    error = "Category not found";
+                } else if (operation.operation() == BatchOperationType.DELETE) {
+                    working.remove(id);
+                    deletes.add(previous);
+                    applied.add(new Applied(index, operation, previous, null));
+                } else {
+                    Transaction current = Transaction.builder()
+                            .id(id)
+                            .user(currentUser)
+                            .category(category)
+                            .amount(payload.amount())
+                            .type(payload.type())
+                            .description(payload.description())
+                            .transactionDate(payload.transactionDate())
+                            .createdAt(previous != null ? previous.getCreatedAt() : now)
+                            .updatedAt(now)
+                            .build();
+                    if (previous == null) {
+                        creates.add(current);
+                    } else {
+                        working.put(id, current);
+                        updates.add(current);
+                    }
+                    applied.add(new Applied(index, operation, previous, current));
+                }
+            }
+
+            if (error != null) {
+                results[index] = TransactionBatchResponse.ItemResult.builder()
+                        .index(index)
+                        .clientId(operation.clientId())
+                        .operation(operation.operation())
+                        .success(false)
+                        .id(operation.id())
+                        .error(error)
+                        .build();
+            }
+        }
+
+        write(currentUser.getId(), creates, updates, deletes);
+
+        recordSideEffects(applied);
+
+        BigDecimal balanceDelta = BigDecimal.ZERO;
+        for (Applied change : applied) {
+            balanceDelta = balanceDelta
+                    .add(signedAmount(change.current()))
+                    .subtract(signedAmount(change.previous()));
+
+            Transaction affected = change.current() != null ? change.current() : change.previous();
+            results[change.index()] = TransactionBatchResponse.ItemResult.builder()
+                    .index(change.index())
+                    .clientId(change.operation().clientId())
+                    .operation(change.operation().operation())
+                    .success(true)
+                    .id(affected.getId())
+                    .transaction(change.current() != null ? mapToResponse(change.current()) : null)
+                    .build();
+        }
+
+        if (!applied.isEmpty()) {
+            balanceLedgerService.recordBulkDelta(currentUser.getId(), balanceDelta);
+            analyticsCache.invalidateUser(currentUser.getId());
+        }
+
+        log.info("Applied batch for user {}: {} created, {} updated, {} deleted, {} failed",
+                currentUser.getId(), creates.size(), updates.size(), deletes.size(),
+                operations.size() - applied.size());
+
+        return TransactionBatchResponse.builder()
+                .succeeded(applied.size())
+                .failed(operations.size() - applied.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private String validate(TransactionBatchRequest.Operation operation) {
+        if (operation.operation() != BatchOperationType.CREATE && operation.id() == null) {
+            return "Transaction ID is required";
+        }
+        if (operation.operation() == BatchOperationType.DELETE) {
+            return null;
+        }
+        if (operation.transaction() == null) {
+            return "Transaction is required";
+        }
+
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(operation.transaction());
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private Map<Long, Category> loadCategories(User user, List<TransactionBatchRequest.Operation> operations) {
+        Set<Long> categoryIds = operations.stream()
+                .filter(operation -> operation.operation() != BatchOperationType.DELETE)
+                .map(TransactionBatchRequest.Operation::transaction)
+                .filter(Objects::nonNull)
+                .map(TransactionRequest::categoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (categoryIds.isEmpty()) {
+            return Map.of();
+        }
+        return categoryRepository.findByUserAndIdIn(user, categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
+
+    private Map<Long, Transaction> lockExisting(User user, List<TransactionBatchRequest.Operation> operations) {
+        Set<Long> ids = operations.stream()
+                .filter(operation -> operation.operation() != BatchOperationType.CREATE)
+                .map(TransactionBatchRequest.Operation::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Transaction> existing = new HashMap<>();
+        if (ids.isEmpty()) {
+            return existing;
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", user.getId())
+                .addValue("ids", ids);
+        jdbcTemplate.query(LOCK_EXISTING, parameters, (ResultSet rs) -> {
+            Transaction transaction = mapRow(rs, user);
+            existing.put(transaction.getId(), transaction);
+        });
+        return existing;
+    }
+
+    private Transaction mapRow(ResultSet rs, User user) throws SQLException {
+        Long categoryId = rs.getObject("category_id", Long.class);
+        Category category = categoryId == null ? null : Category.builder()
+                .id(categoryId)
+                .name(rs.getString("category_name"))
+                .icon(rs.getString("category_icon"))
+                .color(rs.getString("category_color"))
+                .build();
+
+        return Transaction.builder()
+                .id(rs.getLong("transaction_id"))
+                .user(user)
+                .category(category)
+                .amount(rs.getBigDecimal("amount"))
+                .type(TransactionType.valueOf(rs.getString("type")))
+                .description(rs.getString("description"))
+                .transactionDate(rs.getObject("transaction_date", LocalDate.class))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .build();
+    }
+
+    private void write(Long userId, List<Transaction> creates, List<Transaction> updates, List<Transaction> deletes) {
+        if (!creates.isEmpty()) {
+            List<Long> ids = jdbcTemplate.getJdbcOperations()
+                    .queryForList(ALLOCATE_IDS, Long.class, creates.size());
+            for (int i = 0; i < creates.size(); i++) {
+                creates.get(i).setId(ids.get(i));
+            }
+            jdbcTemplate.getJdbcOperations().batchUpdate(INSERT, creates.stream()
+                    .map(transaction -> new Object[]{
+                            transaction.getId(), userId, categoryId(transaction), transaction.getAmount(),
+                            transaction.getType().name(), transaction.getDescription(),
+                            transaction.getTransactionDate(), transaction.getCreatedAt(), transaction.getUpdatedAt()})
+                    .toList());
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.getJdbcOperations().batchUpdate(UPDATE, updates.stream()
+                    .map(transaction -> new Object[]{
+                            categoryId(transaction), transaction.getAmount(), transaction.getType().name(),
+                            transaction.getDescription(), transaction.getTransactionDate(),
+                            transaction.getUpdatedAt(), transaction.getId(), userId})
+                    .toList());
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.getJdbcOperations().batchUpdate(DELETE, deletes.stream()
+                    .map(transaction -> new Object[]{transaction.getId(), userId})
+                    .toList());
+        }
+    }
+
+    /**
+     * Runs after the whole batch is written, so the per-item sketch and payee
+     * hooks would see later inserts of the same batch and count them twice.
+     * Touched cells and months are rebuilt once instead, and the rollup gets
+     * one summed delta per cell.
+     */
+    private void recordSideEffects(List<Applied> applied) {
+        List<Transaction> removed = new ArrayList<>();
+        List<Transaction> added = new ArrayList<>();
+        for (Applied change : applied) {
+            if (change.previous() != null) {
+                removed.add(change.previous());
+            }
+            if (change.current() != null) {
+                added.add(change.current());
+            }
+            switch (change.operation().operation()) {
+                case CREATE -> spendingAnomalyService.recordCreated(change.current());
+                case UPDATE -> spendingAnomalyService.recordUpdated(change.previous(), change.current());
+                case DELETE -> spendingAnomalyService.recordDeleted(change.previous());
+            }
+        }
+
+        List<Transaction> affected = new ArrayList<>(removed);
+        affected.addAll(added);
+        rollupService.recordBatch(removed, added);
+        sketchService.rebuildCells(affected);
+        payeeSummaryService.rebuildMonths(affected);
+    }
+
+    private static Long categoryId(Transaction transaction) {
+        return transaction.getCategory() != null ? transaction.getCategory().getId() : null;
+    }
+
+    private static BigDecimal signedAmount(Transaction transaction) {
+        if (transaction == null) {
+            return BigDecimal.ZERO;
+        }
+        return transaction.getType() == TransactionType.INCOME
+                ? transaction.getAmount()
+                : transaction.getAmount().negate();
+    }
+
+    private TransactionResponse mapToResponse(Transaction transaction) {
+        Category category = transaction.getCategory();
+        return TransactionResponse.builder()
+                .id(transaction.getId())
+                .amount(transaction.getAmount())
+                .type(transaction.getType())
+                .description(transaction.getDescription())
+                .transactionDate(transaction.getTransactionDate())
+                .categoryId(category != null ? category.getId() : null)
+                .categoryName(category != null ? category.getName() : null)
+                .categoryIcon(category != null ? category.getIcon() : null)
+                .categoryColor(category != null ? category.getColor() : null)
+                .createdAt(transaction.getCreatedAt())
+                .updatedAt(transaction.getUpdatedAt())
+                .build();
+    }
+
+    private record Applied(
+            int index,
+            TransactionBatchRequest.Operation operation,
+            Transaction previous,
+            Transaction current
+    ) {
+
+    }
+}
@@ -0,0 +1,146 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import finance_flow.Finance_Flow.dto.request.TransactionSearchRequest;
+import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+import finance_flow.Finance_Flow.exception.BadRequestException;
+import finance_flow.Finance_Flow.model.enums.ExportFormat;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.projection.TransactionRow;
+import finance_flow.Finance_Flow.repository.specification.TransactionSpecifications;
+import finance_flow.Finance_Flow.service.TransactionExportService;
+import finance_flow.Finance_Flow.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    private static final String CSV_HEADER =
+            "id,transactionDate,type,amount,categoryId,categoryName,description,createdAt";
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTransactions(ExportFormat format, OutputStream outputStream) throws IOException {
+        Long userId = SecurityUtils.getCurrentUserId();
+        log.info("Exporting transactions for user {} as {}", userId, format);
+
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TransactionRow> stream = transactionRepository.streamRowsByUserId(userId)) {
+            Iterator<TransactionRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                TransactionRow row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                }
+                writer.write('\n');
+
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        log.info("Exported {} transactions for user {}", rows, userId);
+        return rows;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamTransactions(TransactionType type,
+                                   Long categoryId,
+                                   LocalDate startDate,
+                                   LocalDate endDate,
+                                   OutputStream outputStream) throws IOException {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException("Start date must not be after end date");
+        }
+        Long userId = SecurityUtils.getCurrentUserId();
+        TransactionSearchRequest filters = new TransactionSearchRequest(
+                categoryId != null ? Set.of(categoryId) : null, type, startDate, endDate, null, null, null);
+
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8);
+             Stream<TransactionResponse> stream = transactionRepository.streamResponses(
+                     TransactionSpecifications.search(userId, filters))) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            Iterator<TransactionResponse> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+
+            generator.writeEndArray();
+        }
+
+        log.info("Streamed {} transactions for user {}", rows, userId);
+        return rows;
+    }
+
+    private void writeCsv(Writer writer, TransactionRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(row.transactionDate().toString());
+        writer.write(',');
+        writer.write(row.type().name());
+        writer.write(',');
+        writer.write(row.amount().toPlainString());
+        writer.write(',');
+        writer.write(row.categoryId() != null ? row.categoryId().toString() : "");
+        writer.write(',');
+        writer.write(csvField(row.categoryName()));
+        writer.write(',');
+        writer.write(csvField(row.description()));
+        writer.write(',');
+        writer.write(row.createdAt() != null ? row.createdAt().toString() : "");
+    }
+
+    private String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        String escaped = value;
+        char first = escaped.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            escaped = "'" + escaped;
+        }
+
+        if (escaped.indexOf(',') >= 0 || escaped.indexOf('"') >= 0
+                || escaped.indexOf('\n') >= 0 || escaped.indexOf('\r') >= 0) {
+            return '"' + escaped.replace("\"", "\"\"") + '"';
+        }
+        return escaped;
+    }
+}
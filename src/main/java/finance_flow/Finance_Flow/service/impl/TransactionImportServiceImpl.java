@@ -0,0 +1,198 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.dto.response.TransactionImportResponse;
+import finance_flow.Finance_Flow.exception.BadRequestException;
+import finance_flow.Finance_Flow.service.BalanceLedgerService;
+import finance_flow.Finance_Flow.service.PayeeSummaryService;
+import finance_flow.Finance_Flow.service.SpendingAnomalyService;
+import finance_flow.Finance_Flow.service.TransactionImportService;
+import finance_flow.Finance_Flow.service.TransactionRollupService;
+import finance_flow.Finance_Flow.service.TransactionSketchService;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsCache;
+import finance_flow.Finance_Flow.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Bulk CSV import. The upload is streamed with COPY into a temporary staging
+ * table, validated and categorized there with set-based updates, and the
+ * valid rows are merged into {@code transactions} with a single insert. The
+ * derived per-user state is rebuilt once at the end instead of per row.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private static final String CSV_HEADER = "date,amount,type,category,description";
+    private static final int MAX_REPORTED_ERRORS = 500;
+    private static final String INVALID_DATE = "Invalid date, expected YYYY-MM-DD";
+
+    private static final String CREATE_STAGING =
+            "CREATE TEMPORARY TABLE transaction_import_staging (" +
+            "line_no BIGINT GENERATED ALWAYS AS IDENTITY, " +
+            "raw_date TEXT, raw_amount TEXT, raw_type TEXT, raw_category TEXT, raw_description TEXT, " +
+            "transaction_date DATE, amount NUMERIC(10, 2), type VARCHAR(10), category_id BIGINT, " +
+            "error TEXT" +
+            ") ON COMMIT DROP";
+
+    private static final String COPY_STAGING =
+            "COPY transaction_import_staging (raw_date, raw_amount, raw_type, raw_category, raw_description) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String VALIDATE =
+            "UPDATE transaction_import_staging SET error = CASE " +
+            "WHEN TRIM(COALESCE(raw_date, '')) !~ '^[1-9][0-9]{3}-(0[1-9]|1[0-2])-(0[1-9]|[12][0-9]|3[01])$' " +
+            "THEN '" + INVALID_DATE + "' " +
+            "WHEN CAST(SUBSTRING(TRIM(raw_date) FROM 9 FOR 2) AS INT) > EXTRACT(DAY FROM " +
+            "MAKE_DATE(CAST(SUBSTRING(TRIM(raw_date) FROM 1 FOR 4) AS INT), " +
+            "CAST(SUBSTRING(TRIM(raw_date) FROM 6 FOR 2) AS INT), 1) " +
+            "+ INTERVAL '1 month' - INTERVAL '1 day') " +
+            "THEN '" + INVALID_DATE + "' " +
+            "WHEN TRIM(COALESCE(raw_amount, '')) !~ '^-?[0-9]{1,8}(\\.[0-9]{1,2})?$' " +
+            "THEN 'Invalid amount' " +
+            "WHEN CAST(TRIM(raw_amount) AS NUMERIC) = 0 THEN 'Amount must not be zero' " +
+            "WHEN UPPER(TRIM(COALESCE(raw_type, ''))) NOT IN ('', 'INCOME', 'EXPENSE') " +
+            "THEN 'Type must be INCOME or EXPENSE' " +
+            "WHEN LENGTH(raw_description) > 255 THEN 'Description exceeds 255 characters' " +
+            "END";
+
+    private static final String RESOLVE =
+            "UPDATE transaction_import_staging SET " +
+            "transaction_date = CAST(TRIM(raw_date) AS DATE), " +
+            "amount = ABS(CAST(TRIM(raw_amount) AS NUMERIC(10, 2))), " +
+            "type = COALESCE(NULLIF(UPPER(TRIM(raw_type)), ''), " +
+            "CASE WHEN CAST(TRIM(raw_amount) AS NUMERIC) < 0 THEN 'EXPENSE' ELSE 'INCOME' END) " +
+            "WHERE error IS NULL";
+
+    private static final String CATEGORIZE =
+            "UPDATE transaction_import_staging s SET category_id = c.id " +
+            "FROM categories c " +
+            "WHERE s.error IS NULL " +
+            "AND c.user_id = ? AND c.is_active AND c.type = s.type " +
+            "AND LOWER(c.name) = LOWER(TRIM(s.raw_category))";
+
+    private static final String REJECT_UNKNOWN_CATEGORIES =
+            "UPDATE transaction_import_staging " +
+            "SET error = 'Unknown ' || LOWER(type) || ' category: ' || TRIM(raw_category) " +
+            "WHERE error IS NULL AND category_id IS NULL AND TRIM(COALESCE(raw_category, '')) <> ''";
+
+    private static final String MERGE =
+            "INSERT INTO transactions (user_id, category_id, amount, type, description, " +
+            "transaction_date, created_at, updated_at) " +
+            "SELECT ?, category_id, amount, type, NULLIF(TRIM(raw_description), ''), " +
+            "transaction_date, ?, ? " +
+            "FROM transaction_import_staging WHERE error IS NULL ORDER BY line_no";
+
+    private static final String SUMMARIZE =
+            "SELECT COUNT(*) AS total, " +
+            "COUNT(*) FILTER (WHERE error IS NULL) AS imported, " +
+            "COALESCE(SUM(CASE WHEN type = 'INCOME' THEN amount ELSE -amount END) " +
+            "FILTER (WHERE error IS NULL), 0) AS delta " +
+            "FROM transaction_import_staging";
+
+    private static final String FIND_ERRORS =
+            "SELECT line_no, error FROM transaction_import_staging " +
+            "WHERE error IS NOT NULL ORDER BY line_no LIMIT " + MAX_REPORTED_ERRORS;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionRollupService rollupService;
+    private final BalanceLedgerService balanceLedgerService;
+    private final SpendingAnomalyService spendingAnomalyService;
+    private final TransactionSketchService sketchService;
+    private final PayeeSummaryService payeeSummaryService;
+    private final AnalyticsCache analyticsCache;
+
+    @Override
+    @Transactional
+    public TransactionImportResponse importCsv(InputStream inputStream) throws IOException {
+        Long userId = SecurityUtils.getCurrentUserId();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        verifyHeader(reader.readLine());
+
+        jdbcTemplate.execute(CREATE_STAGING);
+        long copied = copyIntoStaging(reader);
+
+        jdbcTemplate.update(VALIDATE);
+        jdbcTemplate.update(RESOLVE);
+        jdbcTemplate.update(CATEGORIZE, userId);
+        jdbcTemplate.update(REJECT_UNKNOWN_CATEGORIES);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int imported = jdbcTemplate.update(MERGE, userId, now, now);
+
+        ImportSummary summary = jdbcTemplate.queryForObject(SUMMARIZE, (rs, rowNum) -> new ImportSummary(
+                rs.getLong("total"), rs.getLong("imported"), rs.getBigDecimal("delta")));
+        List<TransactionImportResponse.RowError> errors = jdbcTemplate.query(FIND_ERRORS, (rs, rowNum) ->
+                TransactionImportResponse.RowError.builder()
+                        .line(rs.getLong("line_no") + 1)
+                        .message(rs.getString("error"))
+                        .build());
+
+        if (imported > 0) {
+            balanceLedgerService.recordBulkDelta(userId, summary.delta());
+            rollupService.rebuildForUser(userId);
+            spendingAnomalyService.rebuildStatsForUser(userId);
+            sketchService.rebuildForUser(userId);
+            payeeSummaryService.rebuildForUser(userId);
+            analyticsCache.invalidateUser(userId);
+        }
+
+        long rejected = summary.total() - summary.imported();
+        log.info("Imported {} of {} rows for user {} ({} rejected)", imported, copied, userId, rejected);
+
+        return TransactionImportResponse.builder()
+                .totalRows(summary.total())
+                .importedRows(imported)
+                .rejectedRows(rejected)
+                .errors(errors)
+                .errorsTruncated(rejected > errors.size())
+                .build();
+    }
+
+    private void verifyHeader(String header) {
+        if (header == null) {
+            throw new BadRequestException("Import file is empty");
+        }
+        String normalized = header.replace("\uFEFF", "")
+                .replace("\"", "")
+                .replace(" ", "")
+                .toLowerCase(Locale.ROOT);
+        if (!normalized.equals(CSV_HEADER)) {
+            throw new BadRequestException("Import file must start with the header: " + CSV_HEADER);
+        }
+    }
+
+    private long copyIntoStaging(Reader reader) {
+        try {
+            Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try {
+                    return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING, reader);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            return rows != null ? rows : 0L;
+        } catch (DataAccessException ex) {
+            throw new BadRequestException("Malformed CSV: " + ex.getMostSpecificCause().getMessage(), ex);
+        }
+    }
+
+    private record ImportSummary(long total, long imported, BigDecimal delta) {
+
+    }
+}
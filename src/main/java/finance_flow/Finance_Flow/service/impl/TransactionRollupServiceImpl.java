@@ -0,0 +1,117 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.model.Transaction;
+import finance_flow.Finance_Flow.model.TransactionMonthlyRollupId;
+import finance_flow.Finance_Flow.repository.TransactionMonthlyRollupRepository;
+import finance_flow.Finance_Flow.service.TransactionRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionRollupServiceImpl implements TransactionRollupService {
+
+    private final TransactionMonthlyRollupRepository rollupRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Transaction transaction) {
+        apply(transaction, transaction.getAmount(), 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Transaction transaction) {
+        apply(transaction, transaction.getAmount().negate(), -1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Transaction previous, Transaction current) {
+        recordDeleted(previous);
+        recordCreated(current);
+    }
+
+    /**
+     * Sums the changes per rollup cell and applies one delta to each cell
+     * that actually moved.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordBatch(Collection<Transaction> removed, Collection<Transaction> added) {
+        Map<TransactionMonthlyRollupId, Delta> deltas = new HashMap<>();
+        removed.forEach(transaction -> deltas.merge(cellOf(transaction),
+                new Delta(transaction.getAmount().negate(), -1), Delta::plus));
+        added.forEach(transaction -> deltas.merge(cellOf(transaction),
+                new Delta(transaction.getAmount(), 1), Delta::plus));
+
+        deltas.forEach((cell, delta) -> {
+            if (delta.count() != 0 || delta.amount().signum() != 0) {
+                rollupRepository.applyDelta(cell.getUserId(), cell.getMonth(), cell.getCategoryId(),
+                        cell.getType().name(), delta.amount(), delta.count());
+            }
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCategoryDeleted(Long userId, Long categoryId) {
+        rollupRepository.deleteByUserIdAndCategoryId(userId, categoryId);
+    }
+
+    @Override
+    @Transactional
+    public int rebuildForUser(Long userId) {
+        rollupRepository.deleteByUserId(userId);
+        int rows = rollupRepository.rebuildForUser(userId);
+        log.info("Rebuilt {} monthly rollup rows for user {}", rows, userId);
+        return rows;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        rollupRepository.deleteAllRows();
+        int rows = rollupRepository.rebuildAll();
+        log.info("Rebuilt {} monthly rollup rows for all users", rows);
+        return rows;
+    }
+
+    private void apply(Transaction transaction, BigDecimal amount, long count) {
+        TransactionMonthlyRollupId cell = cellOf(transaction);
+        rollupRepository.applyDelta(
+                cell.getUserId(),
+                cell.getMonth(),
+                cell.getCategoryId(),
+                cell.getType().name(),
+                amount,
+                count
+        );
+    }
+
+    private static TransactionMonthlyRollupId cellOf(Transaction transaction) {
+        return new TransactionMonthlyRollupId(
+                transaction.getUser().getId(),
+                transaction.getTransactionDate().withDayOfMonth(1),
+                transaction.getCategory() != null
+                        ? transaction.getCategory().getId()
+                        : TransactionMonthlyRollupId.UNCATEGORIZED,
+                transaction.getType());
+    }
+
+    private record Delta(BigDecimal amount, long count) {
+
+        Delta plus(Delta other) {
+            return new Delta(amount.add(other.amount), count + other.count);
+        }
+    }
+}
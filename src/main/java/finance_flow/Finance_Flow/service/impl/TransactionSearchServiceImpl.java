@@ -0,0 +1,125 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.dto.response.CursorPageResponse;
+import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+import finance_flow.Finance_Flow.exception.BadRequestException;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.service.TransactionSearchService;
+import finance_flow.Finance_Flow.util.SearchCursor;
+import finance_flow.Finance_Flow.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ranked description search over the generated tsvector column and the
+ * trigram index. Whole-word matches rank above fuzzy ones, and fuzzy hits
+ * are ordered by word similarity, which tolerates typos such as "netflx".
+ * Only supplied date filters are added to the statement, and the user id
+ * leads both GIN indexes. The cursor is applied before the sort, so each page
+ * is a bounded top-N sort over the remaining matches, and categories are only
+ * joined for the rows of the page.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionSearchServiceImpl implements TransactionSearchService {
+
+    private static final int MIN_QUERY_LENGTH = 3;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private static final String MATCHES =
+            "SELECT t.transaction_id, t.transaction_date, t.type, t.amount, t.description, " +
+            "t.created_at, t.updated_at, t.category_id, s.score " +
+            "FROM transactions t " +
+            "CROSS JOIN LATERAL (SELECT ROUND(CAST(word_similarity(:query, LOWER(t.description)) " +
+            "+ CASE WHEN t.description_tsv @@ websearch_to_tsquery('simple', :query) THEN 1 ELSE 0 END " +
+            "AS NUMERIC), 4) AS score) s " +
+            "WHERE t.user_id = :userId " +
+            "AND (t.description_tsv @@ websearch_to_tsquery('simple', :query) " +
+            "OR :query <% LOWER(t.description))";
+
+    private static final String ORDER = " ORDER BY score DESC, transaction_date DESC, transaction_id DESC";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransactionResponse> searchByDescription(String query,
+                                                                       String cursor,
+                                                                       int size,
+                                                                       LocalDate startDate,
+                                                                       LocalDate endDate) {
+        String normalized = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (normalized.length() < MIN_QUERY_LENGTH || normalized.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search text must be between "
+                    + MIN_QUERY_LENGTH + " and " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", SecurityUtils.getCurrentUserId())
+                .addValue("query", normalized)
+                .addValue("limit", size + 1);
+
+        StringBuilder sql = new StringBuilder("SELECT m.*, c.name AS category_name, c.icon AS category_icon, " +
+                "c.color AS category_color FROM (").append(MATCHES);
+        if (startDate != null) {
+            sql.append(" AND t.transaction_date >= :startDate");
+            parameters.addValue("startDate", startDate);
+        }
+        if (endDate != null) {
+            sql.append(" AND t.transaction_date <= :endDate");
+            parameters.addValue("endDate", endDate);
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            SearchCursor after = SearchCursor.decode(cursor);
+            sql.append(" AND (s.score, t.transaction_date, t.transaction_id) < (:cursorScore, :cursorDate, :cursorId)");
+            parameters.addValue("cursorScore", after.score())
+                    .addValue("cursorDate", after.transactionDate())
+                    .addValue("cursorId", after.id());
+        }
+        sql.append(ORDER).append(" LIMIT :limit) m ")
+                .append("LEFT JOIN categories c ON c.id = m.category_id")
+                .append(ORDER);
+
+        List<Hit> hits = jdbcTemplate.query(sql.toString(), parameters, (rs, rowNum) -> new Hit(
+                rs.getBigDecimal("score"),
+                TransactionResponse.builder()
+                        .id(rs.getLong("transaction_id"))
+                        .amount(rs.getBigDecimal("amount"))
+                        .type(TransactionType.valueOf(rs.getString("type")))
+                        .description(rs.getString("description"))
+                        .transactionDate(rs.getObject("transaction_date", LocalDate.class))
+                        .categoryId(rs.getObject("category_id", Long.class))
+                        .categoryName(rs.getString("category_name"))
+                        .categoryIcon(rs.getString("category_icon"))
+                        .categoryColor(rs.getString("category_color"))
+                        .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                        .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                        .build()));
+
+        boolean hasNext = hits.size() > size;
+        List<Hit> page = hasNext ? hits.subList(0, size) : hits;
+        Hit last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return CursorPageResponse.<TransactionResponse>builder()
+                .content(page.stream().map(Hit::transaction).toList())
+                .size(page.size())
+                .nextCursor(hasNext
+                        ? new SearchCursor(last.score(), last.transaction().transactionDate(), last.transaction().id()).encode()
+                        : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private record Hit(BigDecimal score, TransactionResponse transaction) {
+
+    }
+}
@@ -1,7 +1,10 @@
 package finance_flow.Finance_Flow.service.impl;
 
 import finance_flow.Finance_Flow.dto.request.TransactionRequest;
+import finance_flow.Finance_Flow.dto.request.TransactionSearchRequest;
+import finance_flow.Finance_Flow.dto.response.CursorPageResponse;
 import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+import finance_flow.Finance_Flow.exception.BadRequestException;
 import finance_flow.Finance_Flow.exception.ResourceNotFoundException;
 import finance_flow.Finance_Flow.model.Category;
 import finance_flow.Finance_Flow.model.Transaction;
@@ -9,27 +12,48 @@ import finance_flow.Finance_Flow.model.User;
 import finance_flow.Finance_Flow.model.enums.TransactionType;
 import finance_flow.Finance_Flow.repository.CategoryRepository;
 import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.specification.TransactionSpecifications;
+import finance_flow.Finance_Flow.service.BalanceLedgerService;
+import finance_flow.Finance_Flow.service.PayeeSummaryService;
+import finance_flow.Finance_Flow.service.SpendingAnomalyService;
+import finance_flow.Finance_Flow.service.TransactionRollupService;
 import finance_flow.Finance_Flow.service.TransactionService;
+import finance_flow.Finance_Flow.service.TransactionSketchService;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsCache;
 import finance_flow.Finance_Flow.util.SecurityUtils;
+import finance_flow.Finance_Flow.util.TransactionCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort KEYSET_ORDER =
+            Sort.by(Sort.Direction.DESC, "transactionDate", "createdAt", "id");
+
     private final TransactionRepository transactionRepository;
     private final CategoryRepository categoryRepository;
+    private final TransactionRollupService rollupService;
+    private final BalanceLedgerService balanceLedgerService;
+    private final SpendingAnomalyService spendingAnomalyService;
+    private final TransactionSketchService sketchService;
+    private final PayeeSummaryService payeeSummaryService;
+    private final AnalyticsCache analyticsCache;
 
     @Override
     @Transactional
@@ -54,6 +78,12 @@ public class TransactionServiceImpl implements TransactionService {
                 .build();
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        rollupService.recordCreated(savedTransaction);
+        balanceLedgerService.recordCreated(savedTransaction);
+        sketchService.recordCreated(savedTransaction);
+        payeeSummaryService.recordCreated(savedTransaction);
+        spendingAnomalyService.recordCreated(savedTransaction);
+        analyticsCache.invalidateUser(currentUser.getId());
 
         log.info("Transaction created successfully with id: {}", savedTransaction.getId());
 
@@ -69,11 +99,26 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction transaction = transactionRepository.findByIdAndUser(id, currentUser)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
 
+        Category category = null;
+        if (request.categoryId() != null) {
+            category = categoryRepository.findByIdAndUser(request.categoryId(), currentUser)
+                    .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+        }
+
+        Transaction previous = snapshot(transaction);
+
         transaction.setTransactionDate(request.transactionDate());
         transaction.setAmount(request.amount());
         transaction.setType(request.type());
         transaction.setDescription(request.description());
+        transaction.setCategory(category);
         Transaction updatedTransaction = transactionRepository.save(transaction);
+        rollupService.recordUpdated(previous, updatedTransaction);
+        balanceLedgerService.recordUpdated(previous, updatedTransaction);
+        sketchService.recordUpdated(previous, updatedTransaction);
+        payeeSummaryService.recordUpdated(previous, updatedTransaction);
+        spendingAnomalyService.recordUpdated(previous, updatedTransaction);
+        analyticsCache.invalidateUser(currentUser.getId());
         return mapToResponse(updatedTransaction);
     }
 
@@ -84,6 +129,12 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction transaction = transactionRepository.findByIdAndUser(id, currentUser)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
         transactionRepository.delete(transaction);
+        rollupService.recordDeleted(transaction);
+        balanceLedgerService.recordDeleted(transaction);
+        sketchService.recordDeleted(transaction);
+        payeeSummaryService.recordDeleted(transaction);
+        spendingAnomalyService.recordDeleted(transaction);
+        analyticsCache.invalidateUser(currentUser.getId());
     }
 
     @Override
@@ -99,54 +150,89 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     @Transactional(readOnly = true)
     public Page<TransactionResponse> getAllTransactions(Pageable pageable) {
-        User currentUser = SecurityUtils.getCurrentUser();
-        Page<Transaction> transactions = transactionRepository.findAllByUser(currentUser, pageable);
-        return transactions.map(this::mapToResponse);
+        return transactionRepository.findResponsesByUserId(SecurityUtils.getCurrentUserId(), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getRecentTransactions(int limit) {
-        User currentUser = SecurityUtils.getCurrentUser();
-        List<Transaction> transactions = transactionRepository.findRecentTransactions(currentUser, Pageable.ofSize(limit));
+    public Page<TransactionResponse> searchTransactions(TransactionSearchRequest request, Pageable pageable) {
+        if (request.startDate() != null && request.endDate() != null
+                && request.startDate().isAfter(request.endDate())) {
+            throw new BadRequestException("Start date must not be after end date");
+        }
+        if (request.minAmount() != null && request.maxAmount() != null
+                && request.minAmount().compareTo(request.maxAmount()) > 0) {
+            throw new BadRequestException("Minimum amount must not exceed maximum amount");
+        }
 
-        return transactions.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        Long userId = SecurityUtils.getCurrentUserId();
+        return transactionRepository.findAll(TransactionSpecifications.search(userId, request), pageable)
+                .map(this::mapToResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getTransactionsByType(TransactionType type) {
-        User currentUser = SecurityUtils.getCurrentUser();
-        List<Transaction> transactions = transactionRepository.findByUserAndType(currentUser, type);
+    public CursorPageResponse<TransactionResponse> getTransactionsByCursor(String cursor,
+                                                                           int size,
+                                                                           Long categoryId,
+                                                                           TransactionType type,
+                                                                           LocalDate startDate,
+                                                                           LocalDate endDate) {
+        TransactionSearchRequest filters = new TransactionSearchRequest(
+                categoryId != null ? Set.of(categoryId) : null, type, startDate, endDate, null, null, null);
+        Specification<Transaction> specification =
+                TransactionSpecifications.search(SecurityUtils.getCurrentUserId(), filters);
+        if (cursor != null && !cursor.isBlank()) {
+            specification = specification.and(TransactionSpecifications.after(TransactionCursor.decode(cursor)));
+        }
+
+        List<Transaction> transactions = transactionRepository.findBy(specification, query -> query
+                .project("category")
+                .sortBy(KEYSET_ORDER)
+                .limit(size + 1)
+                .all());
 
-        return transactions.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        boolean hasNext = transactions.size() > size;
+        List<Transaction> page = hasNext ? transactions.subList(0, size) : transactions;
+
+        return CursorPageResponse.<TransactionResponse>builder()
+                .content(page.stream().map(this::mapToResponse).toList())
+                .size(page.size())
+                .nextCursor(hasNext ? TransactionCursor.after(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getTransactionsByDateRange(LocalDate startDate, LocalDate endDate) {
-        User currentUser = SecurityUtils.getCurrentUser();
-        List<Transaction> transactions = transactionRepository.findByUserAndTransactionDateBetween(currentUser, startDate, endDate);
+    public List<TransactionResponse> getRecentTransactions(int limit) {
+        return transactionRepository.findRecentResponses(SecurityUtils.getCurrentUserId(), Pageable.ofSize(limit));
+    }
 
-        return transactions.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TransactionResponse> getTransactionsByType(TransactionType type, Pageable pageable) {
+        return transactionRepository.findResponsesByType(SecurityUtils.getCurrentUserId(), type, bounded(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getTransactionsByCategory(Long categoryId) {
-        User currentUser = SecurityUtils.getCurrentUser();
-        Category category = categoryRepository.findById(Math.toIntExact(categoryId))
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
-        List<Transaction> transactions = transactionRepository.findByUserAndCategory(currentUser, category);
-        return transactions.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public Page<TransactionResponse> getTransactionsByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("Start date must not be after end date");
+        }
+        return transactionRepository.findResponsesByDateRange(
+                SecurityUtils.getCurrentUserId(), startDate, endDate, bounded(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TransactionResponse> getTransactionsByCategory(Long categoryId, Pageable pageable) {
+        if (!categoryRepository.existsById(Math.toIntExact(categoryId))) {
+            throw new ResourceNotFoundException("Category not found");
+        }
+        return transactionRepository.findResponsesByCategory(
+                SecurityUtils.getCurrentUserId(), categoryId, bounded(pageable));
     }
 
     @Override
@@ -156,6 +242,28 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionRepository.sumByUserAndTypeAndDateRange(currentUser.getId(), type, startDate, endDate);
     }
 
+    private Pageable bounded(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return PageRequest.of(0, MAX_PAGE_SIZE);
+        }
+        if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+            return PageRequest.of(pageable.getPageNumber(), MAX_PAGE_SIZE, pageable.getSort());
+        }
+        return pageable;
+    }
+
+    private Transaction snapshot(Transaction transaction) {
+        return Transaction.builder()
+                .id(transaction.getId())
+                .user(transaction.getUser())
+                .category(transaction.getCategory())
+                .amount(transaction.getAmount())
+                .type(transaction.getType())
+                .transactionDate(transaction.getTransactionDate())
+                .description(transaction.getDescription())
+                .build();
+    }
+
     private TransactionResponse mapToResponse(Transaction transaction) {
         return TransactionResponse.builder()
                 .id(transaction.getId())
@@ -165,7 +273,7 @@ public class TransactionServiceImpl implements TransactionService {
                 .transactionDate(transaction.getTransactionDate())
                 .categoryId(transaction.getCategory() != null ? transaction.getCategory().getId() : null)
                 .categoryName(transaction.getCategory() != null ? transaction.getCategory().getName() : null)
-                .categoryIcon(transaction.getCategory().getIcon() != null ? transaction.getCategory().getIcon() : null)
+                .categoryIcon(transaction.getCategory() != null ? transaction.getCategory().getIcon() : null)
                 .categoryColor(transaction.getCategory() != null ? transaction.getCategory().getColor() : null)
                 .createdAt(transaction.getCreatedAt())
                 .updatedAt(transaction.getUpdatedAt())
@@ -0,0 +1,164 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import com.tdunning.math.stats.MergingDigest;
+import finance_flow.Finance_Flow.model.Transaction;
+import finance_flow.Finance_Flow.model.TransactionAmountSketch;
+import finance_flow.Finance_Flow.model.TransactionAmountSketchId;
+import finance_flow.Finance_Flow.repository.TransactionAmountSketchRepository;
+import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.projection.TransactionRow;
+import finance_flow.Finance_Flow.service.TransactionSketchService;
+import finance_flow.Finance_Flow.service.analytics.AmountSketches;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Keeps one t-digest per user, month, category and type. Inserts are folded
+ * into the digest directly; since t-digests cannot forget values, updates
+ * and deletes rebuild the affected cell from that month's raw amounts.
+ */
+@Service
+@Slf4j
+public class TransactionSketchServiceImpl implements TransactionSketchService {
+
+    private final TransactionAmountSketchRepository sketchRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionSketchServiceImpl(TransactionAmountSketchRepository sketchRepository,
+                                        TransactionRepository transactionRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.sketchRepository = sketchRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Transaction transaction) {
+        TransactionAmountSketch sketch = lockCell(cellOf(transaction));
+        MergingDigest digest = AmountSketches.fromBytes(sketch.getDigest());
+        digest.add(transaction.getAmount().doubleValue());
+        store(sketch, digest);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Transaction transaction) {
+        rebuildCell(cellOf(transaction));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Transaction previous, Transaction current) {
+        TransactionAmountSketchId previousCell = cellOf(previous);
+        TransactionAmountSketchId currentCell = cellOf(current);
+
+        rebuildCell(previousCell);
+        if (!previousCell.equals(currentCell)) {
+            recordCreated(current);
+        }
+    }
+
+    /**
+     * Rebuilds each cell the given transactions fall into once, from the rows
+     * as they are now.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void rebuildCells(Collection<Transaction> transactions) {
+        transactions.stream()
+                .map(TransactionSketchServiceImpl::cellOf)
+                .distinct()
+                .forEach(this::rebuildCell);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCategoryDeleted(Long userId) {
+        rebuildForUser(userId);
+    }
+
+    @Override
+    @Transactional
+    public int rebuildForUser(Long userId) {
+        sketchRepository.deleteByUserId(userId);
+
+        Map<TransactionAmountSketchId, MergingDigest> digests = new HashMap<>();
+        try (Stream<TransactionRow> rows = transactionRepository.streamRowsByUserId(userId)) {
+            rows.forEach(row -> digests
+                    .computeIfAbsent(new TransactionAmountSketchId(
+                            userId,
+                            row.transactionDate().withDayOfMonth(1),
+                            row.categoryId() != null ? row.categoryId() : TransactionAmountSketchId.UNCATEGORIZED,
+                            row.type()), key -> AmountSketches.empty())
+                    .add(row.amount().doubleValue()));
+        }
+
+        digests.forEach((cell, digest) -> sketchRepository.insert(
+                cell.getUserId(),
+                cell.getMonth(),
+                cell.getCategoryId(),
+                cell.getType().name(),
+                AmountSketches.toBytes(digest),
+                digest.size()));
+
+        log.debug("Rebuilt {} amount sketches for user {}", digests.size(), userId);
+        return digests.size();
+    }
+
+    @Override
+    public int rebuildAll() {
+        int cells = 0;
+        for (Long userId : transactionRepository.findUserIdsWithTransactions()) {
+            Integer rebuilt = transactionTemplate.execute(status -> rebuildForUser(userId));
+            cells += rebuilt != null ? rebuilt : 0;
+        }
+        log.info("Rebuilt {} amount sketches for all users", cells);
+        return cells;
+    }
+
+    private void rebuildCell(TransactionAmountSketchId cell) {
+        TransactionAmountSketch sketch = lockCell(cell);
+        YearMonth month = YearMonth.from(cell.getMonth());
+        List<BigDecimal> amounts = transactionRepository.findAmounts(
+                cell.getUserId(), cell.getCategoryId(), cell.getType(), month.atDay(1), month.atEndOfMonth());
+
+        MergingDigest digest = AmountSketches.empty();
+        amounts.forEach(amount -> digest.add(amount.doubleValue()));
+        store(sketch, digest);
+    }
+
+    private TransactionAmountSketch lockCell(TransactionAmountSketchId cell) {
+        sketchRepository.ensureExists(cell.getUserId(), cell.getMonth(), cell.getCategoryId(), cell.getType().name());
+        return sketchRepository.findForUpdate(cell).orElseThrow();
+    }
+
+    private void store(TransactionAmountSketch sketch, MergingDigest digest) {
+        sketch.setDigest(AmountSketches.toBytes(digest));
+        sketch.setSampleCount(digest.size());
+        sketch.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private static TransactionAmountSketchId cellOf(Transaction transaction) {
+        LocalDate month = transaction.getTransactionDate().withDayOfMonth(1);
+        Long categoryId = transaction.getCategory() != null
+                ? transaction.getCategory().getId()
+                : TransactionAmountSketchId.UNCATEGORIZED;
+        return new TransactionAmountSketchId(transaction.getUser().getId(), month, categoryId, transaction.getType());
+    }
+}
@@ -0,0 +1,36 @@
+package finance_flow.Finance_Flow.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Reduces a free-text transaction description to a payee key, so that
+ * "AMZN Mktp US*2K4L81" and "amzn mktp us*7Q9..." count as one payee.
+ */
+public final class PayeeNormalizer {
+
+    private static final int MAX_TOKENS = 4;
+
+    private PayeeNormalizer() {
+    }
+
+    public static String normalize(String description) {
+        if (description == null) {
+            return null;
+        }
+
+        String text = description.toLowerCase(Locale.ROOT);
+        int reference = text.indexOf('*');
+        if (reference > 0) {
+            text = text.substring(0, reference);
+        }
+
+        String key = Arrays.stream(text.replaceAll("[^\\p{L}]+", " ").trim().split(" "))
+                .filter(token -> token.length() > 1)
+                .limit(MAX_TOKENS)
+                .collect(Collectors.joining(" "));
+
+        return key.isEmpty() ? null : key;
+    }
+}
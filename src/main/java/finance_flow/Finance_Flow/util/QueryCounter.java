@@ -0,0 +1,40 @@
+package finance_flow.Finance_Flow.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> COUNTER = ThreadLocal.withInitial(AtomicInteger::new);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTER.get().incrementAndGet();
+        return sql;
+    }
+
+    public static void reset() {
+        COUNTER.set(new AtomicInteger());
+    }
+
+    public static int current() {
+        return COUNTER.get().get();
+    }
+
+    public static void clear() {
+        COUNTER.remove();
+    }
+
+    /**
+     * Returns the counter of the calling thread so that worker threads can
+     * {@link #bind(AtomicInteger) bind} to it and report into the same request.
+     */
+    public static AtomicInteger handle() {
+        return COUNTER.get();
+    }
+
+    public static void bind(AtomicInteger counter) {
+        COUNTER.set(counter);
+    }
+}
@@ -0,0 +1,36 @@
+package finance_flow.Finance_Flow.util;
+
+import finance_flow.Finance_Flow.exception.BadRequestException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last hit of a ranked description search page in the order
+ * (score, transaction date, id), all descending, as an opaque token.
+ */
+public record SearchCursor(BigDecimal score, LocalDate transactionDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static SearchCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new SearchCursor(new BigDecimal(parts[0]), LocalDate.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String raw = score.toPlainString() + SEPARATOR + transactionDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
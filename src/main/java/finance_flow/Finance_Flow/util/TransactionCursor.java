@@ -0,0 +1,44 @@
+package finance_flow.Finance_Flow.util;
+
+import finance_flow.Finance_Flow.exception.BadRequestException;
+import finance_flow.Finance_Flow.model.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page in the listing order
+ * (transaction date, creation time, id), all descending. Clients only see
+ * it as an opaque URL-safe token.
+ */
+public record TransactionCursor(LocalDate transactionDate, LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TransactionCursor after(Transaction transaction) {
+        return new TransactionCursor(
+                transaction.getTransactionDate(), transaction.getCreatedAt(), transaction.getId());
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(parts[0]), LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
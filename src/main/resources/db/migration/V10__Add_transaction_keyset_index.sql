@@ -0,0 +1,6 @@
+CREATE INDEX IF NOT EXISTS idx_transactions_user_keyset
+    ON transactions(user_id, transaction_date DESC, created_at DESC, transaction_id DESC);
+
+-- The keyset index has (user_id, transaction_date) as its prefix.
+DROP INDEX IF EXISTS idx_transactions_user_date;
+DROP INDEX IF EXISTS idx_user_date;
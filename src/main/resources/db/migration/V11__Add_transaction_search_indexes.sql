@@ -0,0 +1,6 @@
+CREATE INDEX IF NOT EXISTS idx_transactions_user_type_date ON transactions(user_id, type, transaction_date DESC);
+CREATE INDEX IF NOT EXISTS idx_transactions_user_category_date ON transactions(user_id, category_id, transaction_date DESC);
+CREATE INDEX IF NOT EXISTS idx_transactions_user_amount ON transactions(user_id, amount);
+
+-- Two values only; never selective on its own.
+DROP INDEX IF EXISTS idx_transactions_type;
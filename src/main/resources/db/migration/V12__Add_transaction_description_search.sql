@@ -0,0 +1,11 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS description_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', COALESCE(description, ''))) STORED;
+
+-- user_id leads both GIN indexes (via btree_gin) so searches stay within one user's entries.
+CREATE INDEX IF NOT EXISTS idx_transactions_user_description_tsv
+    ON transactions USING GIN (user_id, description_tsv);
+CREATE INDEX IF NOT EXISTS idx_transactions_user_description_trgm
+    ON transactions USING GIN (user_id, LOWER(description) gin_trgm_ops);
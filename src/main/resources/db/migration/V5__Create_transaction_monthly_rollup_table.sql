@@ -0,0 +1,20 @@
+CREATE TABLE transaction_monthly_rollup (
+    user_id BIGINT NOT NULL,
+    month DATE NOT NULL,
+    category_id BIGINT NOT NULL DEFAULT 0,
+    type VARCHAR(10) NOT NULL CHECK (type IN ('INCOME', 'EXPENSE')),
+    total_amount DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, month, category_id, type),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+INSERT INTO transaction_monthly_rollup (user_id, month, category_id, type, total_amount, transaction_count)
+SELECT user_id,
+       CAST(date_trunc('month', transaction_date) AS DATE),
+       COALESCE(category_id, 0),
+       type,
+       SUM(amount),
+       COUNT(*)
+FROM transactions
+GROUP BY 1, 2, 3, 4;
@@ -0,0 +1,13 @@
+CREATE TABLE account_balances (
+    user_id BIGINT PRIMARY KEY,
+    balance DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+INSERT INTO account_balances (user_id, balance)
+SELECT u.id,
+       COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END), 0)
+FROM users u
+LEFT JOIN transactions t ON t.user_id = u.id
+GROUP BY u.id;
@@ -0,0 +1,27 @@
+CREATE TABLE category_spending_stats (
+    user_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL DEFAULT 0,
+    sample_count BIGINT NOT NULL DEFAULT 0,
+    mean DOUBLE PRECISION NOT NULL DEFAULT 0,
+    m2 DOUBLE PRECISION NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, category_id),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE spending_anomalies (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    transaction_id BIGINT NOT NULL,
+    category_id BIGINT,
+    category_name VARCHAR(100),
+    amount DECIMAL(10, 2) NOT NULL,
+    typical_amount DECIMAL(12, 2) NOT NULL,
+    z_score DOUBLE PRECISION NOT NULL,
+    transaction_date DATE NOT NULL,
+    detected_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_anomaly_user_date ON spending_anomalies(user_id, transaction_date);
+CREATE INDEX idx_anomaly_transaction ON spending_anomalies(transaction_id);
@@ -0,0 +1,11 @@
+CREATE TABLE transaction_amount_sketches (
+    user_id BIGINT NOT NULL,
+    month DATE NOT NULL,
+    category_id BIGINT NOT NULL DEFAULT 0,
+    type VARCHAR(10) NOT NULL CHECK (type IN ('INCOME', 'EXPENSE')),
+    digest BYTEA,
+    sample_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, month, category_id, type),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
@@ -0,0 +1,8 @@
+CREATE TABLE payee_summaries (
+    user_id BIGINT NOT NULL,
+    month DATE NOT NULL,
+    entries JSONB NOT NULL DEFAULT '[]',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, month),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
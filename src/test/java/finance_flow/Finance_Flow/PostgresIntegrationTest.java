@@ -0,0 +1,75 @@
+package finance_flow.Finance_Flow;
+
+import finance_flow.Finance_Flow.model.User;
+import finance_flow.Finance_Flow.repository.UserRepository;
+import finance_flow.Finance_Flow.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+/**
+ * Base for tests that run against a real Postgres. The container is started
+ * once and shared by every subclass, so they also share one cached
+ * application context; each test works on users of its own. auto_explain
+ * logs every plan, which {@link #POSTGRES}'s logs expose to plan tests.
+ * Skipped when Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "app.jwt.secret=c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0",
+        "management.endpoints.web.cors.allowed-origins=http://localhost",
+        "app.analytics.precompute.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres",
+                    "-c", "shared_preload_libraries=auto_explain",
+                    "-c", "auto_explain.log_min_duration=0");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    protected Long insertUser() {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, password_hash, role, is_active, email_verified, created_at) " +
+                "VALUES (?, 'x', 'USER', true, false, now()) RETURNING id",
+                Long.class, UUID.randomUUID() + "@example.com");
+    }
+
+    protected void signIn(Long userId) {
+        User user = userRepository.findById(userId).orElseThrow();
+        UserPrincipal principal = UserPrincipal.create(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
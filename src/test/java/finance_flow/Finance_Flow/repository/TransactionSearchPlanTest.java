@@ -0,0 +1,148 @@
+package finance_flow.Finance_Flow.repository;
+
+import finance_flow.Finance_Flow.PostgresIntegrationTest;
+import finance_flow.Finance_Flow.dto.request.TransactionSearchRequest;
+import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.specification.TransactionSpecifications;
+import finance_flow.Finance_Flow.util.TransactionCursor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every common search shape against a populated Postgres with
+ * auto_explain enabled and checks the logged plans: each shape has to reach
+ * the transactions table through an index, never a sequential scan.
+ * Skipped when Docker is not available.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionSearchPlanTest extends PostgresIntegrationTest {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2023, 3, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2023, 3, 31);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+    private Long firstCategoryId;
+
+    @BeforeAll
+    void populate() {
+        for (int user = 0; user < 20; user++) {
+            Long id = insertUser();
+            Long categoryId = jdbcTemplate.queryForObject(
+                    "WITH inserted AS (" +
+                    "INSERT INTO categories (user_id, name, type, is_active, is_default, display_order, created_at) " +
+                    "SELECT ?, 'Category ' || g, CASE WHEN g < 15 THEN 'EXPENSE' ELSE 'INCOME' END, " +
+                    "true, false, g, now() FROM generate_series(0, 19) g RETURNING id) " +
+                    "SELECT MIN(id) FROM inserted",
+                    Long.class, id);
+            jdbcTemplate.update(
+                    "INSERT INTO transactions (user_id, category_id, amount, type, description, " +
+                    "transaction_date, created_at) " +
+                    "SELECT ?, ? + g % 20, ROUND(1 + (g * 7919 % 100000) / 100.0, 2), " +
+                    "CASE WHEN g % 20 < 15 THEN 'EXPENSE' ELSE 'INCOME' END, 'Payee ' || g % 500, " +
+                    "DATE '2021-01-01' + g % 1800, TIMESTAMP '2021-01-01' + g * INTERVAL '1 minute' " +
+                    "FROM generate_series(1, ?) g",
+                    id, categoryId, user == 0 ? 100_000 : 1_000);
+            if (user == 0) {
+                userId = id;
+                firstCategoryId = categoryId;
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    Stream<Arguments> shapes() {
+        return Stream.of(
+                Arguments.of("date range", new TransactionSearchRequest(
+                        null, null, MONTH_START, MONTH_END, null, null, null)),
+                Arguments.of("category set", new TransactionSearchRequest(
+                        Set.of(0L, 1L), null, null, null, null, null, null)),
+                Arguments.of("category set and date range", new TransactionSearchRequest(
+                        Set.of(0L, 1L), null, MONTH_START, MONTH_END, null, null, null)),
+                Arguments.of("type and date range", new TransactionSearchRequest(
+                        null, TransactionType.EXPENSE, MONTH_START, MONTH_END, null, null, null)),
+                Arguments.of("amount range", new TransactionSearchRequest(
+                        null, null, null, null, new BigDecimal("500.00"), new BigDecimal("505.00"), null)),
+                Arguments.of("description text", new TransactionSearchRequest(
+                        null, null, null, null, null, null, "payee 42")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("shapes")
+    void searchShapeUsesAnIndex(String shape, TransactionSearchRequest template) {
+        TransactionSearchRequest request = new TransactionSearchRequest(
+                template.categoryIds() == null ? null : Set.of(firstCategoryId, firstCategoryId + 1),
+                template.type(), template.startDate(), template.endDate(),
+                template.minAmount(), template.maxAmount(), template.description());
+
+        int logOffset = POSTGRES.getLogs().length();
+        transactionRepository.findAll(
+                TransactionSpecifications.search(userId, request),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "transactionDate")));
+        String plans = POSTGRES.getLogs().substring(logOffset);
+
+        assertThat(plans).contains("on transactions");
+        assertThat(plans).containsPattern("Index (Only )?Scan|Bitmap Index Scan");
+        assertThat(plans).doesNotContain("Seq Scan on transactions");
+    }
+
+    @Test
+    void keysetPageAfterCursorUsesAnIndex() {
+        TransactionSearchRequest filters = new TransactionSearchRequest(
+                Set.of(firstCategoryId), null, null, null, null, null, null);
+        TransactionCursor cursor = new TransactionCursor(
+                MONTH_END, LocalDateTime.of(2023, 3, 31, 12, 0), Long.MAX_VALUE);
+
+        int logOffset = POSTGRES.getLogs().length();
+        transactionRepository.findBy(
+                TransactionSpecifications.search(userId, filters).and(TransactionSpecifications.after(cursor)),
+                query -> query.sortBy(Sort.by(Sort.Direction.DESC, "transactionDate", "createdAt", "id"))
+                        .limit(21)
+                        .all());
+        String plans = POSTGRES.getLogs().substring(logOffset);
+
+        assertThat(plans).contains("on transactions");
+        assertThat(plans).doesNotContain("Seq Scan on transactions");
+    }
+
+    @Test
+    void exportStreamUsesAnIndex() {
+        TransactionSearchRequest filters = new TransactionSearchRequest(
+                null, TransactionType.EXPENSE, MONTH_START, MONTH_END, null, null, null);
+
+        int logOffset = POSTGRES.getLogs().length();
+        long rows = transactionTemplate.execute(status -> {
+            try (Stream<TransactionResponse> stream = transactionRepository.streamResponses(
+                    TransactionSpecifications.search(userId, filters))) {
+                return stream.count();
+            }
+        });
+        String plans = POSTGRES.getLogs().substring(logOffset);
+
+        assertThat(rows).isPositive();
+        assertThat(plans).contains("on transactions");
+        assertThat(plans).doesNotContain("Seq Scan on transactions");
+    }
+}
@@ -0,0 +1,33 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import com.tdunning.math.stats.MergingDigest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AmountSketchesTest {
+
+    @Test
+    void mergedMonthlySketchesSurviveSerialization() {
+        MergingDigest january = AmountSketches.empty();
+        MergingDigest february = AmountSketches.empty();
+        for (int amount = 1; amount <= 1000; amount++) {
+            (amount % 2 == 0 ? january : february).add(amount);
+        }
+
+        MergingDigest merged = AmountSketches.empty();
+        merged.add(AmountSketches.fromBytes(AmountSketches.toBytes(january)));
+        merged.add(AmountSketches.fromBytes(AmountSketches.toBytes(february)));
+
+        assertThat(merged.size()).isEqualTo(1000);
+        assertThat(merged.quantile(0.5)).isCloseTo(500.0, within(10.0));
+        assertThat(merged.quantile(0.9)).isCloseTo(900.0, within(10.0));
+        assertThat(merged.quantile(0.99)).isCloseTo(990.0, within(5.0));
+    }
+
+    @Test
+    void missingDigestIsEmpty() {
+        assertThat(AmountSketches.fromBytes(null).size()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import finance_flow.Finance_Flow.repository.projection.BudgetSpendView;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BudgetProjectionTest {
+
+    private static final LocalDate APRIL = LocalDate.of(2025, 4, 1);
+
+    @Test
+    void extendsRunRateWithoutHistory() {
+        BudgetProjection projection = BudgetProjection.of(
+                view("300", "300.00", "0", "0", 0), APRIL, LocalDate.of(2025, 4, 10));
+
+        assertThat(projection.projectedSpend()).isEqualByComparingTo("900.00");
+        assertThat(projection.projectedStatus()).isEqualTo("EXCEEDED");
+    }
+
+    @Test
+    void averagesRunRateWithHistoricalRemainder() {
+        BudgetProjection projection = BudgetProjection.of(
+                view("1000", "300.00", "1200", "3000", 6), APRIL, LocalDate.of(2025, 4, 10));
+
+        // run rate 900, profile 300 + 1200 / 6 = 500
+        assertThat(projection.projectedSpend()).isEqualByComparingTo("700.00");
+        assertThat(projection.projectedStatus()).isEqualTo("SAFE");
+    }
+
+    @Test
+    void averagesHistoryOverMonthsTheUserHas() {
+        BudgetProjection projection = BudgetProjection.of(
+                view("1000", "300.00", "400", "1000", 2), APRIL, LocalDate.of(2025, 4, 10));
+
+        // run rate 900, profile 300 + 400 / 2 = 500
+        assertThat(projection.projectedSpend()).isEqualByComparingTo("700.00");
+    }
+
+    @Test
+    void spreadsOccasionalSpendOverTheWholeHistory() {
+        BudgetProjection projection = BudgetProjection.of(
+                view("1000", "100.00", "1200", "1200", 6), APRIL, LocalDate.of(2025, 4, 10));
+
+        // run rate 300, profile 100 + 1200 / 6 = 300
+        assertThat(projection.projectedSpend()).isEqualByComparingTo("300.00");
+    }
+
+    @Test
+    void closedMonthProjectsActualSpend() {
+        BudgetProjection projection = BudgetProjection.of(
+                view("500", "450.00", "0", "3000", 6), APRIL, LocalDate.of(2025, 5, 2));
+
+        assertThat(projection.projectedSpend()).isEqualByComparingTo("450.00");
+        assertThat(projection.projectedStatus()).isEqualTo("WARNING");
+    }
+
+    private static BudgetSpendView view(String limit, String spent, String historyRemaining, String historyTotal,
+                                        long historyMonths) {
+        return new BudgetSpendView() {
+            @Override
+            public Long getBudgetId() {
+                return 1L;
+            }
+
+            @Override
+            public Long getCategoryId() {
+                return 2L;
+            }
+
+            @Override
+            public String getCategoryName() {
+                return "Groceries";
+            }
+
+            @Override
+            public BigDecimal getLimitAmount() {
+                return new BigDecimal(limit);
+            }
+
+            @Override
+            public BigDecimal getSpent() {
+                return new BigDecimal(spent);
+            }
+
+            @Override
+            public BigDecimal getHistoryRemaining() {
+                return new BigDecimal(historyRemaining);
+            }
+
+            @Override
+            public BigDecimal getHistoryTotal() {
+                return new BigDecimal(historyTotal);
+            }
+
+            @Override
+            public Long getHistoryMonths() {
+                return historyMonths;
+            }
+        };
+    }
+}
@@ -0,0 +1,151 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import finance_flow.Finance_Flow.model.User;
+import finance_flow.Finance_Flow.repository.UserRepository;
+import finance_flow.Finance_Flow.service.AnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class DashboardPrecomputerTest {
+
+    private static final Instant START = Instant.parse("2025-01-15T10:00:00Z");
+    private static final Duration DEBOUNCE = Duration.ofSeconds(5);
+
+    private final List<ScheduledRun> runs = new ArrayList<>();
+    private MutableClock clock;
+    private AnalyticsService analyticsService;
+    private DashboardPrecomputer precomputer;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        analyticsService = mock(AnalyticsService.class);
+        precomputer = precomputer(true, 2);
+    }
+
+    @Test
+    void writesWithinTheDebounceWindowPostponeASingleRun() {
+        precomputer.onAnalyticsInvalidated(new AnalyticsInvalidatedEvent(1L));
+        clock.advance(Duration.ofSeconds(2));
+        precomputer.onAnalyticsInvalidated(new AnalyticsInvalidatedEvent(1L));
+
+        assertThat(runs).extracting(ScheduledRun::at).containsExactly(START.plus(DEBOUNCE));
+
+        clock.advance(Duration.ofSeconds(3));
+        runs.remove(0).task().run();
+
+        verifyNoInteractions(analyticsService);
+        assertThat(runs).extracting(ScheduledRun::at).containsExactly(START.plus(Duration.ofSeconds(7)));
+
+        clock.advance(Duration.ofSeconds(2));
+        runs.remove(0).task().run();
+
+        verify(analyticsService).getAnalytics(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        assertThat(runs).isEmpty();
+    }
+
+    @Test
+    void pendingUserIsScheduledOnceAndCanBeScheduledAgainAfterItsRun() {
+        precomputer.scheduleAfterLogin(1L);
+        precomputer.onAnalyticsInvalidated(new AnalyticsInvalidatedEvent(1L));
+
+        assertThat(runs).hasSize(1);
+
+        clock.advance(DEBOUNCE);
+        runs.remove(0).task().run();
+        precomputer.onAnalyticsInvalidated(new AnalyticsInvalidatedEvent(1L));
+
+        verify(analyticsService, times(1)).getAnalytics(any(), any());
+        assertThat(runs).hasSize(1);
+    }
+
+    @Test
+    void usersBeyondMaxPendingAreSkipped() {
+        precomputer.scheduleAfterLogin(1L);
+        precomputer.scheduleAfterLogin(2L);
+        precomputer.scheduleAfterLogin(3L);
+
+        assertThat(runs).hasSize(2);
+
+        runs.remove(0).task().run();
+        precomputer.scheduleAfterLogin(3L);
+
+        assertThat(runs).hasSize(2);
+    }
+
+    @Test
+    void disabledPrecomputerSchedulesNothing() {
+        DashboardPrecomputer disabled = precomputer(false, 2);
+
+        disabled.scheduleAfterLogin(1L);
+        disabled.onAnalyticsInvalidated(new AnalyticsInvalidatedEvent(1L));
+
+        assertThat(runs).isEmpty();
+    }
+
+    private DashboardPrecomputer precomputer(boolean enabled, int maxPending) {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(anyLong())).thenAnswer(invocation -> Optional.of(User.builder()
+                .id(invocation.getArgument(0))
+                .email("user@example.com")
+                .password("secret")
+                .build()));
+
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        when(scheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            runs.add(new ScheduledRun(invocation.getArgument(0), invocation.getArgument(1)));
+            return null;
+        });
+
+        return new DashboardPrecomputer(enabled, DEBOUNCE, maxPending, analyticsService, userRepository,
+                scheduler, clock);
+    }
+
+    private record ScheduledRun(Runnable task, Instant at) {
+
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
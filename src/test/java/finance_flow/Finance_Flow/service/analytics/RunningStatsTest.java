@@ -0,0 +1,48 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.DoubleStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RunningStatsTest {
+
+    @Test
+    void matchesTwoPassMeanAndSampleVariance() {
+        double[] amounts = {42.10, 38.75, 51.00, 44.30, 47.95, 39.99, 120.00};
+
+        RunningStats stats = RunningStats.EMPTY;
+        for (double amount : amounts) {
+            stats = stats.add(amount);
+        }
+
+        double mean = DoubleStream.of(amounts).average().orElseThrow();
+        double variance = DoubleStream.of(amounts).map(a -> (a - mean) * (a - mean)).sum() / (amounts.length - 1);
+
+        assertThat(stats.count()).isEqualTo(amounts.length);
+        assertThat(stats.mean()).isCloseTo(mean, within(1e-9));
+        assertThat(stats.variance()).isCloseTo(variance, within(1e-9));
+    }
+
+    @Test
+    void removeReversesAdd() {
+        RunningStats stats = RunningStats.EMPTY.add(42.10).add(38.75).add(51.00).add(44.30);
+
+        RunningStats restored = stats.add(10_000.0).remove(10_000.0);
+
+        assertThat(restored.count()).isEqualTo(stats.count());
+        assertThat(restored.mean()).isCloseTo(stats.mean(), within(1e-9));
+        assertThat(restored.m2()).isCloseTo(stats.m2(), within(1e-6));
+        assertThat(RunningStats.EMPTY.add(12.0).remove(12.0)).isEqualTo(RunningStats.EMPTY);
+    }
+
+    @Test
+    void zScoreIsZeroWithoutSpread() {
+        RunningStats stats = RunningStats.EMPTY.add(25.0).add(25.0).add(25.0);
+
+        assertThat(stats.standardDeviation()).isZero();
+        assertThat(stats.zScore(500.0)).isZero();
+    }
+}
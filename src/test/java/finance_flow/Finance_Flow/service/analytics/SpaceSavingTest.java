@@ -0,0 +1,31 @@
+package finance_flow.Finance_Flow.service.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTest {
+
+    @Test
+    void heavyHittersSurviveEvictionAndMerge() {
+        SpaceSaving january = new SpaceSaving(3);
+        SpaceSaving february = new SpaceSaving(3);
+        for (int i = 0; i < 10; i++) {
+            january.offer("rent", new BigDecimal("100"));
+            february.offer("rent", new BigDecimal("100"));
+            january.offer("noise-" + i, BigDecimal.ONE);
+        }
+        february.offer("grocer", new BigDecimal("50"));
+
+        january.merge(february);
+        List<PayeeCounter> top = january.top(2);
+
+        assertThat(top).extracting(PayeeCounter::payee).containsExactly("rent", "grocer");
+        assertThat(top.get(0).spend()).isEqualByComparingTo("2000");
+        assertThat(top.get(0).count()).isEqualTo(20);
+        assertThat(top.get(1).spend().subtract(top.get(1).error())).isLessThanOrEqualTo(new BigDecimal("50"));
+    }
+}
@@ -0,0 +1,43 @@
+package finance_flow.Finance_Flow.service.analytics.insight;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import finance_flow.Finance_Flow.service.analytics.DateRange;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BudgetAlertRuleTest {
+
+    @Test
+    void alertsOnExceededGlobalBudget() {
+        AnalyticsResponse.BudgetStatus global = AnalyticsResponse.BudgetStatus.builder()
+                .budgetId(7L)
+                .categoryId(null)
+                .categoryName("Global Budget")
+                .utilizationRate(new BigDecimal("112.50"))
+                .status("EXCEEDED")
+                .build();
+        AnalyticsResponse.BudgetOverview overview = AnalyticsResponse.BudgetOverview.builder()
+                .budgetStatuses(List.of(global))
+                .build();
+
+        InsightContext context = new InsightContext(
+                new DateRange(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30)))
+                .seed(InsightAggregate.BUDGET_OVERVIEW, overview);
+
+        List<AnalyticsResponse.SpendingInsight> insights = new BudgetAlertRule().evaluate(context);
+
+        assertThat(insights).singleElement().satisfies(insight -> {
+            assertThat(insight.severity()).isEqualTo("CRITICAL");
+            assertThat(insight.message()).isEqualTo("Budget exceeded for: Global Budget");
+            assertThat(insight.metadata())
+                    .containsEntry("budgetId", 7L)
+                    .containsEntry("categoryId", null)
+                    .containsEntry("utilizationRate", new BigDecimal("112.50"));
+        });
+    }
+}
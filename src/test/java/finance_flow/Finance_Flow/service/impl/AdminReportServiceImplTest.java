@@ -0,0 +1,148 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.dto.response.AdminReportResponse;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.UserRepository;
+import finance_flow.Finance_Flow.repository.projection.MonthlyVolumeView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class AdminReportServiceImplTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2025, 2, 1);
+    private static final LocalDate FEBRUARY_END = LocalDate.of(2025, 2, 28);
+
+    private TransactionRepository transactionRepository;
+    private PlatformTransactionManager transactionManager;
+    private AdminReportServiceImpl reportService;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = mock(TransactionRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findMinId()).thenReturn(1L);
+        when(userRepository.findMaxId()).thenReturn(100L);
+
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        Clock clock = Clock.fixed(Instant.parse("2025-03-10T12:00:00Z"), ZoneOffset.UTC);
+        reportService = new AdminReportServiceImpl(4, 2, Duration.ofSeconds(30),
+                transactionRepository, userRepository, transactionManager, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportService.destroy();
+    }
+
+    @Test
+    void splitsUsersIntoContiguousRangesAndSumsTheSlices() {
+        when(transactionRepository.getMonthlyVolumeForUserRange(anyLong(), anyLong(), any(), any()))
+                .thenReturn(List.of(
+                        row("2025-01-01", null, "0", 3, 2),
+                        row("2025-01-01", "EXPENSE", "10.50", 2, 2),
+                        row("2025-01-01", "INCOME", "100.00", 1, 1),
+                        row("2025-02-01", null, "0", 1, 1),
+                        row("2025-02-01", "EXPENSE", "4.00", 1, 1)));
+
+        AdminReportResponse report = reportService.getMonthlyReport(JANUARY.plusDays(9), FEBRUARY.plusDays(3));
+
+        verify(transactionRepository).getMonthlyVolumeForUserRange(1L, 25L, JANUARY, FEBRUARY_END);
+        verify(transactionRepository).getMonthlyVolumeForUserRange(26L, 50L, JANUARY, FEBRUARY_END);
+        verify(transactionRepository).getMonthlyVolumeForUserRange(51L, 75L, JANUARY, FEBRUARY_END);
+        verify(transactionRepository).getMonthlyVolumeForUserRange(76L, 100L, JANUARY, FEBRUARY_END);
+
+        assertThat(report.reportingDay()).isEqualTo(LocalDate.of(2025, 3, 10));
+        assertThat(report.months()).extracting(AdminReportResponse.MonthlyReport::month)
+                .containsExactly("2025-01-01", "2025-02-01");
+
+        AdminReportResponse.MonthlyReport january = report.months().get(0);
+        assertThat(january.activeUsers()).isEqualTo(8);
+        assertThat(january.transactionCount()).isEqualTo(12);
+        assertThat(january.volumeByType())
+                .extracting(AdminReportResponse.TypeVolume::type, volume -> volume.amount().toPlainString(),
+                        AdminReportResponse.TypeVolume::transactionCount)
+                .containsExactlyInAnyOrder(
+                        tuple(TransactionType.EXPENSE, "42.00", 8L),
+                        tuple(TransactionType.INCOME, "400.00", 4L));
+    }
+
+    @Test
+    void reportIsComputedOncePerDayAndRange() {
+        when(transactionRepository.getMonthlyVolumeForUserRange(anyLong(), anyLong(), any(), any()))
+                .thenReturn(List.of());
+
+        AdminReportResponse first = reportService.getMonthlyReport(JANUARY, FEBRUARY);
+        AdminReportResponse second = reportService.getMonthlyReport(JANUARY.plusDays(5), FEBRUARY.plusDays(5));
+        reportService.getMonthlyReport(FEBRUARY, FEBRUARY);
+
+        assertThat(second).isSameAs(first);
+        verify(transactionRepository, times(8)).getMonthlyVolumeForUserRange(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    void slicesRunInReadOnlyTransactionsWithAStatementTimeout() {
+        when(transactionRepository.getMonthlyVolumeForUserRange(anyLong(), anyLong(), any(), any()))
+                .thenReturn(List.of());
+
+        reportService.getMonthlyReport(JANUARY, FEBRUARY);
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(4)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).allSatisfy(definition -> {
+            assertThat(definition.isReadOnly()).isTrue();
+            assertThat(definition.getTimeout()).isEqualTo(30);
+        });
+    }
+
+    private static MonthlyVolumeView row(String month, String type, String amount, long count, long users) {
+        return new MonthlyVolumeView() {
+            @Override
+            public String getMonth() {
+                return month;
+            }
+
+            @Override
+            public String getType() {
+                return type;
+            }
+
+            @Override
+            public BigDecimal getTotalAmount() {
+                return new BigDecimal(amount);
+            }
+
+            @Override
+            public Long getTransactionCount() {
+                return count;
+            }
+
+            @Override
+            public Long getActiveUsers() {
+                return users;
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.PostgresIntegrationTest;
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import finance_flow.Finance_Flow.service.AnalyticsService;
+import finance_flow.Finance_Flow.service.TransactionRollupService;
+import finance_flow.Finance_Flow.util.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements Hibernate actually sends for the category breakdown,
+ * through the {@link QueryCounter} statement inspector, against a real
+ * Postgres. Skipped when Docker is not available.
+ */
+class AnalyticsServiceImplQueryCountTest extends PostgresIntegrationTest {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2025, 1, 31);
+    private static final LocalDate MID_MONTH = LocalDate.of(2025, 1, 15);
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private TransactionRollupService rollupService;
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 40, 250})
+    void categoryBreakdownRunsOneStatementRegardlessOfCategoryCount(int categories) {
+        signInWithCategories(categories);
+
+        QueryCounter.reset();
+        List<AnalyticsResponse.CategoryBreakdown> breakdowns =
+                analyticsService.buildCategoryBreakdowns(MID_MONTH, MONTH_END);
+
+        assertThat(breakdowns).hasSize(categories);
+        assertThat(QueryCounter.current()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 40, 250})
+    void monthAlignedCategoryBreakdownRunsOneStatementRegardlessOfCategoryCount(int categories) {
+        signInWithCategories(categories);
+
+        QueryCounter.reset();
+        List<AnalyticsResponse.CategoryBreakdown> breakdowns =
+                analyticsService.buildCategoryBreakdowns(MONTH_START, MONTH_END);
+
+        assertThat(breakdowns).hasSize(categories);
+        assertThat(QueryCounter.current()).isEqualTo(1);
+    }
+
+    private void signInWithCategories(int categories) {
+        Long userId = insertUser();
+        jdbcTemplate.update(
+                "WITH inserted AS (" +
+                "INSERT INTO categories (user_id, name, type, is_active, is_default, display_order, created_at) " +
+                "SELECT ?, 'Category ' || g, 'EXPENSE', true, false, g, now() " +
+                "FROM generate_series(1, ?) g RETURNING id) " +
+                "INSERT INTO transactions (user_id, category_id, amount, type, description, " +
+                "transaction_date, created_at) " +
+                "SELECT ?, id, 10.00, 'EXPENSE', 'Groceries', ?, now() FROM inserted",
+                userId, categories, userId, MID_MONTH.plusDays(1));
+        rollupService.rebuildForUser(userId);
+        signIn(userId);
+    }
+}
@@ -0,0 +1,146 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.dto.response.AnalyticsResponse;
+import finance_flow.Finance_Flow.model.User;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.AccountBalanceRepository;
+import finance_flow.Finance_Flow.repository.BudgetRepository;
+import finance_flow.Finance_Flow.repository.PayeeSummaryRepository;
+import finance_flow.Finance_Flow.repository.TransactionAmountSketchRepository;
+import finance_flow.Finance_Flow.repository.TransactionMonthlyRollupRepository;
+import finance_flow.Finance_Flow.repository.TransactionRepository;
+import finance_flow.Finance_Flow.repository.projection.CategorySpendView;
+import finance_flow.Finance_Flow.security.UserPrincipal;
+import finance_flow.Finance_Flow.service.SpendingAnomalyService;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsAggregateEngine;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsCache;
+import finance_flow.Finance_Flow.service.analytics.AnalyticsSectionExecutor;
+import finance_flow.Finance_Flow.service.analytics.insight.InsightEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AnalyticsServiceImplTest {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2025, 1, 31);
+    private static final LocalDate MID_MONTH = LocalDate.of(2025, 1, 15);
+
+    private TransactionRepository transactionRepository;
+    private BudgetRepository budgetRepository;
+    private TransactionMonthlyRollupRepository rollupRepository;
+    private AnalyticsServiceImpl analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = mock(TransactionRepository.class);
+        budgetRepository = mock(BudgetRepository.class);
+        rollupRepository = mock(TransactionMonthlyRollupRepository.class);
+        analyticsService = new AnalyticsServiceImpl(
+                new AnalyticsAggregateEngine(
+                        transactionRepository, budgetRepository, rollupRepository,
+                        mock(AccountBalanceRepository.class), mock(TransactionAmountSketchRepository.class),
+                        mock(PayeeSummaryRepository.class)),
+                new AnalyticsCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry(), event -> { }),
+                mock(AnalyticsSectionExecutor.class),
+                new InsightEngine(List.of()),
+                mock(SpendingAnomalyService.class)
+        );
+
+        User user = User.builder().id(1L).email("user@example.com").password("secret").build();
+        UserPrincipal principal = UserPrincipal.create(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 40, 250})
+    void categoryBreakdownRunsOneQueryRegardlessOfCategoryCount(int categories) {
+        when(transactionRepository.findCategorySpend(eq(1L), eq(TransactionType.EXPENSE), any(), any()))
+                .thenReturn(rows(categories));
+
+        List<AnalyticsResponse.CategoryBreakdown> breakdowns =
+                analyticsService.buildCategoryBreakdowns(MID_MONTH, MONTH_END);
+
+        assertThat(breakdowns).hasSize(categories);
+        verify(transactionRepository, times(1))
+                .findCategorySpend(1L, TransactionType.EXPENSE, MID_MONTH, MONTH_END);
+        verifyNoMoreInteractions(transactionRepository);
+        verifyNoInteractions(budgetRepository, rollupRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 40, 250})
+    void monthAlignedCategoryBreakdownRunsOneRollupQueryRegardlessOfCategoryCount(int categories) {
+        when(rollupRepository.findCategorySpend(eq(1L), eq(TransactionType.EXPENSE), any(), any()))
+                .thenReturn(rows(categories));
+
+        List<AnalyticsResponse.CategoryBreakdown> breakdowns =
+                analyticsService.buildCategoryBreakdowns(MONTH_START, MONTH_END);
+
+        assertThat(breakdowns).hasSize(categories);
+        verify(rollupRepository, times(1))
+                .findCategorySpend(1L, TransactionType.EXPENSE, MONTH_START, MONTH_START);
+        verifyNoMoreInteractions(rollupRepository);
+        verifyNoInteractions(transactionRepository, budgetRepository);
+    }
+
+    private static List<CategorySpendView> rows(int categories) {
+        return IntStream.rangeClosed(1, categories)
+                .<CategorySpendView>mapToObj(i -> new Row((long) i, BigDecimal.valueOf(i), (long) i))
+                .toList();
+    }
+
+    private record Row(Long categoryId, BigDecimal amount, Long transactionCount) implements CategorySpendView {
+
+        @Override
+        public Long getCategoryId() {
+            return categoryId;
+        }
+
+        @Override
+        public String getCategoryName() {
+            return "Category " + categoryId;
+        }
+
+        @Override
+        public String getCategoryIcon() {
+            return null;
+        }
+
+        @Override
+        public String getCategoryColor() {
+            return "#5B7FFF";
+        }
+
+        @Override
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        @Override
+        public Long getTransactionCount() {
+            return transactionCount;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.model.Category;
+import finance_flow.Finance_Flow.model.CategorySpendingStats;
+import finance_flow.Finance_Flow.model.CategorySpendingStatsId;
+import finance_flow.Finance_Flow.model.SpendingAnomaly;
+import finance_flow.Finance_Flow.model.Transaction;
+import finance_flow.Finance_Flow.model.User;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.CategorySpendingStatsRepository;
+import finance_flow.Finance_Flow.repository.SpendingAnomalyRepository;
+import finance_flow.Finance_Flow.service.analytics.RunningStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SpendingAnomalyServiceImplTest {
+
+    private static final User USER = User.builder().id(1L).email("user@example.com").password("x").build();
+    private static final Category GROCERIES = Category.builder().id(7L).name("Groceries").build();
+    private static final double[] HISTORY = {42.10, 38.75, 51.00, 44.30, 47.95, 39.99};
+
+    private SpendingAnomalyRepository anomalyRepository;
+    private SpendingAnomalyServiceImpl anomalyService;
+    private CategorySpendingStats stats;
+    private RunningStats history;
+
+    @BeforeEach
+    void setUp() {
+        history = RunningStats.EMPTY;
+        for (double amount : HISTORY) {
+            history = history.add(amount);
+        }
+        stats = CategorySpendingStats.builder()
+                .id(new CategorySpendingStatsId(USER.getId(), GROCERIES.getId()))
+                .sampleCount(history.count())
+                .mean(history.mean())
+                .m2(history.m2())
+                .build();
+
+        CategorySpendingStatsRepository statsRepository = mock(CategorySpendingStatsRepository.class);
+        when(statsRepository.findForUpdate(stats.getId())).thenReturn(Optional.of(stats));
+        anomalyRepository = mock(SpendingAnomalyRepository.class);
+        when(anomalyRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        anomalyService = new SpendingAnomalyServiceImpl(statsRepository, anomalyRepository, 5, 3.0, 2.0);
+    }
+
+    @Test
+    void correctingAMistypedAmountDropsTheFlagAndRestoresTheStats() {
+        Transaction mistyped = expense(10_000);
+        assertThat(anomalyService.recordCreated(mistyped)).isPresent();
+
+        Optional<SpendingAnomaly> rescored = anomalyService.recordUpdated(mistyped, expense(45));
+
+        verify(anomalyRepository).deleteByTransactionId(mistyped.getId());
+        assertThat(rescored).isEmpty();
+        assertStats(history.add(45));
+    }
+
+    @Test
+    void updateToAnAnomalousAmountIsFlagged() {
+        Transaction typical = expense(45);
+        anomalyService.recordCreated(typical);
+
+        Optional<SpendingAnomaly> rescored = anomalyService.recordUpdated(typical, expense(900));
+
+        assertThat(rescored).hasValueSatisfying(anomaly -> {
+            assertThat(anomaly.getTransactionId()).isEqualTo(typical.getId());
+            assertThat(anomaly.getTypicalAmount().doubleValue()).isCloseTo(history.mean(), within(0.005));
+        });
+        assertStats(history.add(900));
+    }
+
+    @Test
+    void deleteTakesTheAmountOutOfTheStats() {
+        Transaction mistyped = expense(10_000);
+        anomalyService.recordCreated(mistyped);
+
+        anomalyService.recordDeleted(mistyped);
+
+        verify(anomalyRepository).deleteByTransactionId(mistyped.getId());
+        assertStats(history);
+        assertThat(anomalyService.recordCreated(expense(10_000))).isPresent();
+    }
+
+    private void assertStats(RunningStats expected) {
+        assertThat(stats.getSampleCount()).isEqualTo(expected.count());
+        assertThat(stats.getMean()).isCloseTo(expected.mean(), within(1e-9));
+        assertThat(stats.getM2()).isCloseTo(expected.m2(), within(1e-6));
+    }
+
+    private static Transaction expense(double amount) {
+        return Transaction.builder()
+                .id(99L)
+                .user(USER)
+                .category(GROCERIES)
+                .amount(BigDecimal.valueOf(amount))
+                .type(TransactionType.EXPENSE)
+                .transactionDate(LocalDate.of(2025, 1, 15))
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.PostgresIntegrationTest;
+import finance_flow.Finance_Flow.dto.request.TransactionBatchRequest;
+import finance_flow.Finance_Flow.dto.request.TransactionRequest;
+import finance_flow.Finance_Flow.dto.response.TransactionBatchResponse;
+import finance_flow.Finance_Flow.model.PayeeSummary;
+import finance_flow.Finance_Flow.model.PayeeSummaryId;
+import finance_flow.Finance_Flow.model.enums.BatchOperationType;
+import finance_flow.Finance_Flow.model.enums.TransactionType;
+import finance_flow.Finance_Flow.repository.PayeeSummaryRepository;
+import finance_flow.Finance_Flow.service.TransactionBatchService;
+import finance_flow.Finance_Flow.service.analytics.PayeeCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies batches against a real Postgres and checks the derived tables
+ * (rollup, amount sketches, payee summaries) match the transactions that
+ * were written. Skipped when Docker is not available.
+ */
+class TransactionBatchServiceImplTest extends PostgresIntegrationTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 5, 10);
+    private static final LocalDate MONTH = DATE.withDayOfMonth(1);
+
+    @Autowired
+    private TransactionBatchService batchService;
+
+    @Autowired
+    private PayeeSummaryRepository payeeSummaryRepository;
+
+    private Long userId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser();
+        categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO categories (user_id, name, type, is_active, is_default, display_order, created_at) " +
+                "VALUES (?, 'Food', 'EXPENSE', true, false, 0, now()) RETURNING id",
+                Long.class, userId);
+        signIn(userId);
+    }
+
+    @Test
+    void updateAndCreateInTheSameCellAreCountedOnce() {
+        TransactionBatchResponse seeded = batchService.applyBatch(new TransactionBatchRequest(List.of(
+                operation(BatchOperationType.CREATE, null, "10.00"))));
+        Long existingId = seeded.results().get(0).id();
+
+        TransactionBatchResponse response = batchService.applyBatch(new TransactionBatchRequest(List.of(
+                operation(BatchOperationType.UPDATE, existingId, "15.00"),
+                operation(BatchOperationType.CREATE, null, "20.00"))));
+
+        assertThat(response.succeeded()).isEqualTo(2);
+
+        Map<String, Object> rollup = jdbcTemplate.queryForMap(
+                "SELECT total_amount, transaction_count FROM transaction_monthly_rollup " +
+                "WHERE user_id = ? AND month = ? AND category_id = ? AND type = 'EXPENSE'",
+                userId, MONTH, categoryId);
+        assertThat((BigDecimal) rollup.get("total_amount")).isEqualByComparingTo("35.00");
+        assertThat(((Number) rollup.get("transaction_count")).longValue()).isEqualTo(2);
+
+        Long sketchCount = jdbcTemplate.queryForObject(
+                "SELECT sample_count FROM transaction_amount_sketches " +
+                "WHERE user_id = ? AND month = ? AND category_id = ? AND type = 'EXPENSE'",
+                Long.class, userId, MONTH, categoryId);
+        assertThat(sketchCount).isEqualTo(2);
+
+        PayeeSummary summary = payeeSummaryRepository.findById(new PayeeSummaryId(userId, MONTH)).orElseThrow();
+        assertThat(summary.getEntries()).hasSize(1);
+        PayeeCounter counter = summary.getEntries().get(0);
+        assertThat(counter.payee()).isEqualTo("corner cafe");
+        assertThat(counter.count()).isEqualTo(2);
+        assertThat(counter.spend()).isEqualByComparingTo("35.00");
+    }
+
+    private TransactionBatchRequest.Operation operation(BatchOperationType type, Long id, String amount) {
+        return new TransactionBatchRequest.Operation(type, id, null, new TransactionRequest(
+                categoryId, new BigDecimal(amount), TransactionType.EXPENSE, "Corner Cafe", DATE));
+    }
+}
@@ -0,0 +1,103 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.PostgresIntegrationTest;
+import finance_flow.Finance_Flow.dto.response.TransactionImportResponse;
+import finance_flow.Finance_Flow.service.TransactionImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Imports a CSV into a real Postgres and checks the staged validation, the
+ * category resolution and the derived state rebuilt afterwards. Skipped when
+ * Docker is not available.
+ */
+class TransactionImportServiceImplTest extends PostgresIntegrationTest {
+
+    private static final LocalDate MONTH = LocalDate.of(2024, 3, 1);
+
+    private static final String CSV = """
+            date,amount,type,category,description
+            2024-03-05,-12.50,,groceries,Corner Shop
+            2024-03-07,2000,INCOME,Salary,Payroll
+            2024-02-30,-10,,Groceries,Bad date
+            2024-03-08,abc,,Groceries,Bad amount
+            2024-03-09,-5,,Travel,Unknown category
+            2024-03-10,-7.50,EXPENSE,,No category
+            """;
+
+    @Autowired
+    private TransactionImportService importService;
+
+    private Long userId;
+    private Long groceriesId;
+    private Long salaryId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser();
+        groceriesId = insertCategory("Groceries", "EXPENSE");
+        salaryId = insertCategory("Salary", "INCOME");
+        signIn(userId);
+    }
+
+    @Test
+    void importsValidRowsAndReportsRejectedOnes() throws IOException {
+        TransactionImportResponse response = importService.importCsv(
+                new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.totalRows()).isEqualTo(6);
+        assertThat(response.importedRows()).isEqualTo(3);
+        assertThat(response.rejectedRows()).isEqualTo(3);
+        assertThat(response.errors())
+                .extracting(TransactionImportResponse.RowError::line, TransactionImportResponse.RowError::message)
+                .containsExactly(
+                        tuple(4L, "Invalid date, expected YYYY-MM-DD"),
+                        tuple(5L, "Invalid amount"),
+                        tuple(6L, "Unknown expense category: Travel"));
+
+        List<Map<String, Object>> transactions = jdbcTemplate.queryForList(
+                "SELECT category_id, amount, type, description FROM transactions " +
+                "WHERE user_id = ? ORDER BY transaction_date", userId);
+        assertThat(transactions)
+                .extracting(row -> row.get("category_id"), row -> row.get("type"), row -> row.get("description"))
+                .containsExactly(
+                        tuple(groceriesId, "EXPENSE", "Corner Shop"),
+                        tuple(salaryId, "INCOME", "Payroll"),
+                        tuple(null, "EXPENSE", "No category"));
+
+        BigDecimal balance = jdbcTemplate.queryForObject(
+                "SELECT balance FROM account_balances WHERE user_id = ?", BigDecimal.class, userId);
+        assertThat(balance).isEqualByComparingTo("1980.00");
+
+        List<Map<String, Object>> rollup = jdbcTemplate.queryForList(
+                "SELECT category_id, type, total_amount, transaction_count FROM transaction_monthly_rollup " +
+                "WHERE user_id = ? AND month = ? ORDER BY category_id", userId, MONTH);
+        assertThat(rollup)
+                .extracting(row -> row.get("category_id"), row -> row.get("type"),
+                        row -> ((BigDecimal) row.get("total_amount")).stripTrailingZeros().toPlainString(),
+                        row -> ((Number) row.get("transaction_count")).longValue())
+                .containsExactly(
+                        tuple(0L, "EXPENSE", "7.5", 1L),
+                        tuple(groceriesId, "EXPENSE", "12.5", 1L),
+                        tuple(salaryId, "INCOME", "2000", 1L));
+    }
+
+    private Long insertCategory(String name, String type) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO categories (user_id, name, type, is_active, is_default, display_order, created_at) " +
+                "VALUES (?, ?, ?, true, false, 0, now()) RETURNING id",
+                Long.class, userId, name, type);
+    }
+}
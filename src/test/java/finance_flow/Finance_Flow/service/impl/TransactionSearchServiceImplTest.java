@@ -0,0 +1,95 @@
+package finance_flow.Finance_Flow.service.impl;
+
+import finance_flow.Finance_Flow.PostgresIntegrationTest;
+import finance_flow.Finance_Flow.dto.response.CursorPageResponse;
+import finance_flow.Finance_Flow.dto.response.TransactionResponse;
+import finance_flow.Finance_Flow.service.TransactionSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Runs the ranked description search against a real Postgres with the
+ * full-text and trigram schema applied. Skipped when Docker is not available.
+ */
+class TransactionSearchServiceImplTest extends PostgresIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private TransactionSearchService searchService;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser();
+        insertTransaction(userId, "Netflix subscription", DAY.plusDays(1));
+        insertTransaction(userId, "Netflixx premium", DAY.plusDays(9));
+        insertTransaction(userId, "NETFLIX.COM monthly", DAY.plusDays(3));
+        insertTransaction(userId, "Netflex gift card", DAY.plusDays(8));
+        insertTransaction(userId, "Netflix", DAY.plusDays(2));
+        insertTransaction(userId, "Netflixx premium", DAY.plusDays(7));
+        insertTransaction(userId, "Spotify", DAY.plusDays(4));
+        insertTransaction(insertUser(), "Netflix subscription", DAY.plusDays(5));
+        signIn(userId);
+    }
+
+    @Test
+    void wholeWordMatchesRankAboveFuzzyOnes() {
+        CursorPageResponse<TransactionResponse> page = searchService.searchByDescription(
+                "Netflix", null, 20, null, null);
+
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.content())
+                .extracting(TransactionResponse::description, TransactionResponse::transactionDate)
+                .containsExactly(
+                        tuple("Netflix", DAY.plusDays(2)),
+                        tuple("Netflix subscription", DAY.plusDays(1)),
+                        tuple("NETFLIX.COM monthly", DAY.plusDays(3)),
+                        tuple("Netflixx premium", DAY.plusDays(9)),
+                        tuple("Netflixx premium", DAY.plusDays(7)),
+                        tuple("Netflex gift card", DAY.plusDays(8)));
+    }
+
+    @Test
+    void cursorPagesContinueTheRankedOrder() {
+        List<Long> single = searchService.searchByDescription("netflix", null, 20, null, null)
+                .content().stream().map(TransactionResponse::id).toList();
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        CursorPageResponse<TransactionResponse> page;
+        do {
+            page = searchService.searchByDescription("netflix", cursor, 2, null, null);
+            assertThat(page.content()).hasSizeLessThanOrEqualTo(2);
+            page.content().forEach(transaction -> paged.add(transaction.id()));
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+
+        assertThat(paged).hasSize(6).containsExactlyElementsOf(single);
+    }
+
+    @Test
+    void dateFiltersNarrowTheMatches() {
+        CursorPageResponse<TransactionResponse> page = searchService.searchByDescription(
+                "netflix", null, 20, DAY.plusDays(3), DAY.plusDays(8));
+
+        assertThat(page.content()).extracting(TransactionResponse::transactionDate)
+                .containsExactlyInAnyOrder(DAY.plusDays(3), DAY.plusDays(7), DAY.plusDays(8));
+    }
+
+    private void insertTransaction(Long owner, String description, LocalDate date) {
+        jdbcTemplate.update(
+                "INSERT INTO transactions (user_id, amount, type, description, transaction_date, created_at) " +
+                "VALUES (?, 9.99, 'EXPENSE', ?, ?, now())",
+                owner, description, date);
+    }
+}
@@ -0,0 +1,32 @@
+package finance_flow.Finance_Flow.util;
+
+import finance_flow.Finance_Flow.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionCursorTest {
+
+    @Test
+    void tokenRoundTrips() {
+        TransactionCursor cursor = new TransactionCursor(
+                LocalDate.of(2026, 3, 14), LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000), 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=", "/", "+");
+        assertThat(TransactionCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void malformedTokenIsBadRequest() {
+        assertThatThrownBy(() -> TransactionCursor.decode("not a cursor"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> TransactionCursor.decode("MjAyNi0wMy0xNA"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}